@@ -17,11 +17,19 @@
 
 package dev.lambdaurora.lovely_snails;
 
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.entity.ai.SnailPathNodeMaker;
+import dev.lambdaurora.lovely_snails.network.StoragePageRequestLimiter;
 import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
-import dev.lambdaurora.lovely_snails.screen.SnailScreenHandler;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.biome.v1.BiomeModifications;
 import net.fabricmc.fabric.api.biome.v1.BiomeSelectors;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.entity.SpawnGroup;
 import net.minecraft.inventory.Inventory;
@@ -35,7 +43,7 @@ import net.minecraft.util.Identifier;
  * Represents the Lovely Snails mod.
  *
  * @author LambdAurora
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class LovelySnails implements ModInitializer {
@@ -49,13 +57,48 @@ public class LovelySnails implements ModInitializer {
 				(server, player, handler, buf, responseSender) -> {
 					int syncId = buf.readVarInt();
 					byte storagePage = buf.readByte();
-					server.execute(() -> {
-						if (handler.getPlayer().currentScreenHandler instanceof SnailScreenHandler snailScreenHandler
-								&& snailScreenHandler.syncId == syncId) {
-							snailScreenHandler.setCurrentStoragePage(storagePage);
-						}
-					});
+					StoragePageRequestLimiter.get(player).submit(server, player, syncId, storagePage);
 				});
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> StoragePageRequestLimiter.remove(handler.getPlayer()));
+
+		ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+			if (entity instanceof SnailEntity snail) {
+				snail.attachHotState(LovelySnailsServerWorld.get(world).lovely_snails$getHotStore());
+
+				// The love ticks read from NBT don't go through setLoveTicks.
+				if (snail.isInLove()) {
+					snail.registerInLove();
+				}
+			}
+		});
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+			if (entity instanceof SnailEntity snail) {
+				snail.detachHotState();
+			}
+		});
+
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> SnailPathNodeMaker.invalidateCache());
+
+		ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+			var snailWorld = LovelySnailsServerWorld.get(world);
+			snailWorld.lovely_snails$getChunkRevisions().onChunkUnloaded(chunk.getPos());
+			snailWorld.lovely_snails$getClimateCache().onChunkUnloaded(chunk.getPos());
+		});
+
+		ServerTickEvents.START_WORLD_TICK.register(world -> {
+			var snailWorld = LovelySnailsServerWorld.get(world);
+			snailWorld.lovely_snails$getPlayerCache().update(world);
+			snailWorld.lovely_snails$getSenses().update(world, snailWorld.lovely_snails$getHotStore());
+			snailWorld.lovely_snails$getCrowding().update(snailWorld.lovely_snails$getHotStore());
+		});
+		ServerTickEvents.END_WORLD_TICK.register(world -> {
+			var snailWorld = LovelySnailsServerWorld.get(world);
+			snailWorld.lovely_snails$getHotStore().tick();
+			snailWorld.lovely_snails$getGrowthQueue().tick();
+			snailWorld.lovely_snails$getHerdManager().tick(world, snailWorld.lovely_snails$getHotStore());
+			snailWorld.lovely_snails$getLoveRegistry().tick();
+			snailWorld.lovely_snails$getStatusBatcher().flush();
+		});
 
 		BiomeModifications.addSpawn(BiomeSelectors.tag(LovelySnailsRegistry.SNAIL_SWAMP_LIKE_SPAWN_BIOMES),
 				SpawnGroup.CREATURE, LovelySnailsRegistry.SNAIL_ENTITY_TYPE, 10, 1, 3);
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.block;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import net.minecraft.block.BlockRenderType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.BlockWithEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+
+/**
+ * Represents the snail terrarium, a block in which a tamed snail can hibernate.
+ * <p>
+ * Sneaking while using an empty terrarium makes the nearest snail owned by the player hibernate in it,
+ * using it again releases the snail.
+ * A hibernating snail is only stored as data and doesn't tick.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailTerrariumBlock extends BlockWithEntity {
+	/**
+	 * The range in which a snail can be taken to hibernate in the terrarium.
+	 */
+	public static final double HIBERNATION_RANGE = 8.0;
+
+	public SnailTerrariumBlock(Settings settings) {
+		super(settings);
+	}
+
+	@Override
+	public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+		return new SnailTerrariumBlockEntity(pos, state);
+	}
+
+	@Override
+	public BlockRenderType getRenderType(BlockState state) {
+		return BlockRenderType.MODEL;
+	}
+
+	@Override
+	public ActionResult onUse(BlockState state, World world, BlockPos pos, PlayerEntity player, Hand hand, BlockHitResult hit) {
+		if (!(world.getBlockEntity(pos) instanceof SnailTerrariumBlockEntity terrarium)) {
+			return ActionResult.PASS;
+		}
+
+		if (world.isClient()) {
+			return ActionResult.SUCCESS;
+		}
+
+		if (terrarium.hasSnail()) {
+			if (!player.shouldCancelInteraction() && terrarium.isOwner(player)) {
+				terrarium.releaseSnail((ServerWorld) world, Vec3d.ofBottomCenter(pos.up()));
+				return ActionResult.CONSUME;
+			}
+		} else if (player.shouldCancelInteraction()) {
+			var snail = this.findHibernatingCandidate(world, pos, player);
+
+			if (snail != null && terrarium.absorbSnail(snail)) {
+				return ActionResult.CONSUME;
+			}
+		}
+
+		return ActionResult.PASS;
+	}
+
+	private @Nullable SnailEntity findHibernatingCandidate(World world, BlockPos pos, PlayerEntity player) {
+		var center = Vec3d.ofCenter(pos);
+		var snails = world.getEntitiesByClass(SnailEntity.class, new Box(pos).expand(HIBERNATION_RANGE),
+				snail -> snail.isAlive() && snail.isTamed() && snail.isOwner(player) && !snail.hasPassengers() && !snail.hasVehicle()
+		);
+
+		return snails.stream()
+				.min(Comparator.comparingDouble(snail -> snail.squaredDistanceTo(center)))
+				.orElse(null);
+	}
+
+	@Override
+	public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+		super.onPlaced(world, pos, state, placer, itemStack);
+
+		// A terrarium copied with its data must not duplicate the hibernating snail.
+		if (!world.isClient() && world.getBlockEntity(pos) instanceof SnailTerrariumBlockEntity terrarium) {
+			terrarium.clearCopiedSnail();
+		}
+	}
+
+	@Override
+	public void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+		if (!state.isOf(newState.getBlock()) && world instanceof ServerWorld serverWorld
+				&& world.getBlockEntity(pos) instanceof SnailTerrariumBlockEntity terrarium) {
+			// The snail must not be lost with the terrarium.
+			terrarium.releaseSnail(serverWorld, Vec3d.ofBottomCenter(pos));
+		}
+
+		super.onStateReplaced(state, world, pos, newState, moved);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.block;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.event.GameEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents the block entity of the snail terrarium, which holds the data of the hibernating snail.
+ * <p>
+ * This block entity never ticks, the snail is only saved with its full data and recreated once released.
+ * Clients only receive whether there's a snail and whether it's a baby, which is all they need to render it.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailTerrariumBlockEntity extends BlockEntity {
+	private @Nullable NbtCompound snail;
+	private boolean occupied;
+	private boolean babySnail;
+
+	public SnailTerrariumBlockEntity(BlockPos pos, BlockState state) {
+		super(LovelySnailsRegistry.SNAIL_TERRARIUM_BLOCK_ENTITY_TYPE, pos, state);
+	}
+
+	/**
+	 * Returns whether a snail is hibernating in this terrarium.
+	 *
+	 * @return {@code true} if a snail is hibernating in this terrarium, else {@code false}
+	 */
+	public boolean hasSnail() {
+		return this.occupied;
+	}
+
+	/**
+	 * Returns whether the hibernating snail is a baby.
+	 *
+	 * @return {@code true} if the hibernating snail is a baby, else {@code false}
+	 */
+	public boolean isBabySnail() {
+		return this.babySnail;
+	}
+
+	/**
+	 * Returns whether the given player owns the hibernating snail.
+	 *
+	 * @param player the player
+	 * @return {@code true} if the player owns the hibernating snail, else {@code false}
+	 */
+	public boolean isOwner(PlayerEntity player) {
+		return this.snail != null && this.snail.containsUuid("Owner") && player.getUuid().equals(this.snail.getUuid("Owner"));
+	}
+
+	/**
+	 * Makes the given snail hibernate in this terrarium, the snail entity is removed from the world.
+	 *
+	 * @param snail the snail
+	 * @return {@code true} if the snail is now hibernating, else {@code false}
+	 */
+	public boolean absorbSnail(SnailEntity snail) {
+		if (this.snail != null) {
+			return false;
+		}
+
+		var nbt = new NbtCompound();
+		if (!snail.saveSelfNbt(nbt)) {
+			return false;
+		}
+
+		this.snail = nbt;
+		this.babySnail = snail.isBaby();
+		this.occupied = true;
+
+		snail.discard();
+		if (this.world != null) {
+			this.world.emitGameEvent(snail, GameEvent.BLOCK_CHANGE, this.pos);
+		}
+		this.onSnailChanged();
+		return true;
+	}
+
+	/**
+	 * Releases the hibernating snail at the given position.
+	 * <p>
+	 * The snail catches up the time it spent hibernating on its first tick.
+	 *
+	 * @param world the world
+	 * @param pos the position to release the snail at
+	 */
+	public void releaseSnail(ServerWorld world, Vec3d pos) {
+		if (this.snail == null) {
+			return;
+		}
+
+		var nbt = this.snail;
+		this.snail = null;
+		this.occupied = false;
+		this.babySnail = false;
+		this.onSnailChanged();
+
+		EntityType.getEntityFromNbt(nbt, world).ifPresent(entity -> {
+			entity.refreshPositionAndAngles(pos.getX(), pos.getY(), pos.getZ(), entity.getYaw(), entity.getPitch());
+			entity.setVelocity(Vec3d.ZERO);
+			entity.fallDistance = 0.f;
+			world.spawnEntity(entity);
+		});
+	}
+
+	/**
+	 * Forgets the snail data copied into a newly placed terrarium, like from a picked terrarium item.
+	 */
+	void clearCopiedSnail() {
+		if (!this.occupied) {
+			return;
+		}
+
+		this.snail = null;
+		this.occupied = false;
+		this.babySnail = false;
+		this.onSnailChanged();
+	}
+
+	private void onSnailChanged() {
+		this.markDirty();
+
+		if (this.world != null) {
+			this.world.updateListeners(this.pos, this.getCachedState(), this.getCachedState(), Block.NOTIFY_LISTENERS);
+		}
+	}
+
+	@Override
+	public void readNbt(NbtCompound nbt) {
+		super.readNbt(nbt);
+
+		this.snail = nbt.contains("snail", NbtElement.COMPOUND_TYPE) ? nbt.getCompound("snail") : null;
+		this.occupied = this.snail != null || nbt.getBoolean("occupied");
+		this.babySnail = nbt.getBoolean("baby");
+	}
+
+	@Override
+	protected void writeNbt(NbtCompound nbt) {
+		super.writeNbt(nbt);
+
+		if (this.snail != null) {
+			nbt.put("snail", this.snail);
+			nbt.putBoolean("baby", this.babySnail);
+		}
+	}
+
+	@Override
+	public @Nullable Packet<ClientPlayPacketListener> toUpdatePacket() {
+		return BlockEntityUpdateS2CPacket.create(this);
+	}
+
+	@Override
+	public NbtCompound toInitialChunkDataNbt() {
+		var nbt = new NbtCompound();
+		nbt.putBoolean("occupied", this.occupied);
+		nbt.putBoolean("baby", this.babySnail);
+		return nbt;
+	}
+}
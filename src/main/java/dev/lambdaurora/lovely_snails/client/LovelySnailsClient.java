@@ -20,24 +20,34 @@ package dev.lambdaurora.lovely_snails.client;
 import dev.lambdaurora.lovely_snails.LovelySnails;
 import dev.lambdaurora.lovely_snails.client.model.SnailModel;
 import dev.lambdaurora.lovely_snails.client.render.SnailEntityRenderer;
+import dev.lambdaurora.lovely_snails.client.render.SnailTerrariumBlockEntityRenderer;
 import dev.lambdaurora.lovely_snails.client.screen.SnailInventoryScreen;
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.network.SnailStatusBatcher;
 import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
 import dev.lambdaurora.lovely_snails.screen.SnailScreenHandler;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityModelLayerRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
 import net.minecraft.client.model.Dilation;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.block.entity.BlockEntityRendererFactories;
+import net.minecraft.client.render.entity.EmptyEntityRenderer;
 import net.minecraft.client.render.entity.model.EntityModelLayer;
+import net.minecraft.item.ItemStack;
 
 /**
  * Represents the Lovely Snails client mod.
  *
  * @author LambdAurora
- * @version 1.1.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 @Environment(EnvType.CLIENT)
@@ -49,10 +59,14 @@ public class LovelySnailsClient implements ClientModInitializer {
 	@Override
 	public void onInitializeClient() {
 		EntityRendererRegistry.register(LovelySnailsRegistry.SNAIL_ENTITY_TYPE, SnailEntityRenderer::new);
+		EntityRendererRegistry.register(LovelySnailsRegistry.SNAIL_HERD_ENTITY_TYPE, EmptyEntityRenderer::new);
 		EntityModelLayerRegistry.registerModelLayer(SNAIL_MODEL_LAYER, () -> SnailModel.model(Dilation.NONE));
 		EntityModelLayerRegistry.registerModelLayer(SNAIL_SADDLE_MODEL_LAYER, () -> SnailModel.model(new Dilation(0.5f)));
 		EntityModelLayerRegistry.registerModelLayer(SNAIL_DECOR_MODEL_LAYER, () -> SnailModel.model(new Dilation(0.25f)));
 
+		BlockEntityRendererFactories.register(LovelySnailsRegistry.SNAIL_TERRARIUM_BLOCK_ENTITY_TYPE, SnailTerrariumBlockEntityRenderer::new);
+		BlockRenderLayerMap.INSTANCE.putBlock(LovelySnailsRegistry.SNAIL_TERRARIUM_BLOCK, RenderLayer.getCutout());
+
 		HandledScreens.register(LovelySnailsRegistry.SNAIL_SCREEN_HANDLER_TYPE, SnailInventoryScreen::new);
 
 		ClientPlayNetworking.registerGlobalReceiver(LovelySnailsRegistry.SNAIL_SET_STORAGE_PAGE,
@@ -66,5 +80,51 @@ public class LovelySnailsClient implements ClientModInitializer {
 						}
 					});
 				});
+		ClientPlayNetworking.registerGlobalReceiver(LovelySnailsRegistry.SNAIL_INVENTORY_DELTA,
+				(client, handler, buf, responseSender) -> {
+					int entityId = buf.readVarInt();
+					int count = buf.readVarInt();
+					int[] slots = new int[count];
+					var stacks = new ItemStack[count];
+					for (int i = 0; i < count; i++) {
+						slots[i] = buf.readUnsignedByte();
+						stacks[i] = buf.readItemStack();
+					}
+
+					client.execute(() -> {
+						if (client.player.currentScreenHandler instanceof SnailScreenHandler snailScreenHandler
+								&& snailScreenHandler.snail().getId() == entityId) {
+							var inventory = snailScreenHandler.getInventory();
+							for (int i = 0; i < count; i++) {
+								if (slots[i] < inventory.size()) {
+									inventory.setStack(slots[i], stacks[i]);
+								}
+							}
+						}
+					});
+				});
+		ClientPlayNetworking.registerGlobalReceiver(LovelySnailsRegistry.SNAIL_STATUS_BATCH,
+				(client, handler, buf, responseSender) -> {
+					var entityIds = new IntArrayList();
+					var statuses = new ByteArrayList();
+					while (buf.isReadable()) {
+						entityIds.add(buf.readVarInt());
+						statuses.add(buf.readByte());
+					}
+
+					client.execute(() -> {
+						for (int i = 0; i < entityIds.size(); i++) {
+							if (client.world.getEntityById(entityIds.getInt(i)) instanceof SnailEntity snail) {
+								byte entry = statuses.getByte(i);
+
+								for (int status = 0; status < SnailStatusBatcher.STATUS_BITS; status++) {
+									if ((entry & (1 << status)) != 0) {
+										snail.handleStatus((byte) (SnailStatusBatcher.FIRST_STATUS + status));
+									}
+								}
+							}
+						}
+					});
+				});
 	}
 }
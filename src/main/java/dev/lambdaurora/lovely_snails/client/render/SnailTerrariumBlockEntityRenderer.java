@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.client.render;
+
+import dev.lambdaurora.lovely_snails.block.SnailTerrariumBlockEntity;
+import dev.lambdaurora.lovely_snails.client.LovelySnailsClient;
+import dev.lambdaurora.lovely_snails.client.model.SnailModel;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.util.math.MatrixStack;
+
+/**
+ * Represents the snail terrarium renderer, which draws the hibernating snail hidden in its shell.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailTerrariumBlockEntityRenderer implements BlockEntityRenderer<SnailTerrariumBlockEntity> {
+	private static final float FLOOR_HEIGHT = 2.f / 16.f;
+	private static final float ADULT_SCALE = .4f;
+	private static final float BABY_SCALE = .8f;
+
+	private final SnailModel model;
+
+	public SnailTerrariumBlockEntityRenderer(BlockEntityRendererFactory.Context context) {
+		this.model = new SnailModel(context.getLayerModelPart(LovelySnailsClient.SNAIL_MODEL_LAYER));
+	}
+
+	@Override
+	public void render(SnailTerrariumBlockEntity terrarium, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+			int light, int overlay) {
+		if (!terrarium.hasSnail())
+			return;
+
+		this.model.child = terrarium.isBabySnail();
+		this.model.getCurrentModel().hideSnail();
+
+		float scale = this.model.child ? BABY_SCALE : ADULT_SCALE;
+
+		matrices.push();
+		matrices.translate(.5f, FLOOR_HEIGHT, .5f);
+		matrices.scale(-scale, -scale, scale);
+		matrices.translate(0.f, -1.501f, 0.f);
+
+		var vertices = vertexConsumers.getBuffer(RenderLayer.getEntityCutoutNoCull(SnailEntityRenderer.TEXTURE));
+		this.model.render(matrices, vertices, light, overlay, 1.f, 1.f, 1.f, 1.f);
+		matrices.pop();
+	}
+}
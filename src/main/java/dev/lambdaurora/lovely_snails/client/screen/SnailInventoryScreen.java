@@ -44,7 +44,7 @@ import net.minecraft.util.math.MathHelper;
  * Represents the snail inventory screen.
  *
  * @author LambdAurora
- * @version 1.1.1
+ * @version 1.2.0
  * @since 1.0.0
  */
 @Environment(EnvType.CLIENT)
@@ -65,6 +65,7 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 	private void clearListeners() {
 		if (this.enderChestButton != null) {
 			this.getScreenHandler().getInventory().removeListener(this.enderChestButton);
+			this.getScreenHandler().removePageChangeListener(this.enderChestButton);
 		}
 		this.enderChestButton = null;
 
@@ -85,8 +86,6 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 
 		int x = (this.width - this.backgroundWidth) / 2;
 		int y = (this.height - this.backgroundHeight) / 2;
-		this.addDrawableSelectableElement(this.enderChestButton = new EnderChestButton(x + 7 + 18, y + 35 + 18));
-		this.getScreenHandler().getInventory().addListener(this.enderChestButton);
 
 		int buttonX = x + this.backgroundWidth - 3;
 		int buttonY = y + 17;
@@ -95,6 +94,12 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 			this.getScreenHandler().getInventory().addListener(this.pageButtons[page]);
 			this.getScreenHandler().addPageChangeListener(this.pageButtons[page]);
 		}
+
+		// The ender chest is a page like the others, its button is placed after the storage page buttons.
+		this.addDrawableSelectableElement(this.enderChestButton = new EnderChestButton(buttonX,
+				buttonY + SnailScreenHandler.ENDER_CHEST_PAGE * 18 + 1));
+		this.getScreenHandler().getInventory().addListener(this.enderChestButton);
+		this.getScreenHandler().addPageChangeListener(this.enderChestButton);
 	}
 
 	@Override
@@ -115,8 +120,9 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 	public boolean mouseScrolled(double mouseX, double mouseY, double scrollX, double scrollY) {
 		int x = (this.width - this.backgroundWidth) / 2;
 		int y = (this.height - this.backgroundHeight) / 2;
-		if (mouseX > x + 98 && mouseY > y + 17 && mouseX <= x + 98 + 5 * 18 && mouseY <= y + 17 + 54) {
-			int oldPage = this.getScreenHandler().getCurrentStoragePage();
+		if (mouseX > x + 98 && mouseY > y + 17 && mouseX <= x + 98 + 5 * 18 && mouseY <= y + 17 + 54
+				&& this.getScreenHandler().getRequestedStoragePage() != SnailScreenHandler.ENDER_CHEST_PAGE) {
+			int oldPage = this.getScreenHandler().getRequestedStoragePage();
 			int newPage = MathHelper.clamp(oldPage + (scrollY > 0 ? -1 : 1), 0, 2);
 			if (oldPage == newPage)
 				return true;
@@ -145,6 +151,13 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 		int y = (this.height - this.backgroundHeight) / 2;
 		graphics.drawTexture(TEXTURE, x, y, 0, 0, this.backgroundWidth, this.backgroundHeight);
 
+		if (this.getScreenHandler().isEnderChestPageSelected()) {
+			// The ender chest slots cover the whole upper part, built from the 5 columns wide storage texture.
+			graphics.drawTexture(TEXTURE, x + 7, y + 17, 0, this.backgroundHeight, 5 * 18, 54);
+			graphics.drawTexture(TEXTURE, x + 7 + 5 * 18, y + 17, 18, this.backgroundHeight, 4 * 18, 54);
+			return;
+		}
+
 		if (this.entity.canBeSaddled()) {
 			graphics.drawTexture(TEXTURE, x + 7 + 18, y + 35 - 18, 18, this.backgroundHeight + 54, 18, 18);
 		}
@@ -178,9 +191,12 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 		this.mouseY = mouseY;
 		super.render(graphics, mouseX, mouseY, delta);
 		this.drawMouseoverTooltip(graphics, mouseX, mouseY);
+
+		// Page requests made since the last frame are sent as a single packet.
+		this.getScreenHandler().flushStoragePageRequest();
 	}
 
-	private class EnderChestButton extends TexturedButtonWidget implements InventoryChangedListener {
+	private class EnderChestButton extends TexturedButtonWidget implements InventoryChangedListener, SnailScreenHandler.InventoryPageChangeListener {
 		public EnderChestButton(int x, int y) {
 			super(x, y, 18, 18,
 					new ClickableWidgetStateTextures(
@@ -191,6 +207,9 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 						var screenHandler = SnailInventoryScreen.this.getScreenHandler();
 						client.interactionManager.clickButton(screenHandler.syncId, 0);
 					});
+
+			this.visible = this.active = SnailInventoryScreen.this.getScreenHandler().hasEnderChest();
+			this.onCurrentPageSet(SnailInventoryScreen.this.getScreenHandler().getCurrentStoragePage());
 		}
 
 		@Override
@@ -203,6 +222,11 @@ public class SnailInventoryScreen extends HandledScreen<SnailScreenHandler> {
 		public void onInventoryChanged(Inventory sender) {
 			this.visible = this.active = SnailInventoryScreen.this.getScreenHandler().hasEnderChest();
 		}
+
+		@Override
+		public void onCurrentPageSet(int page) {
+			this.setFocused(page == SnailScreenHandler.ENDER_CHEST_PAGE);
+		}
 	}
 
 	private class PageButton extends TexturedButtonWidget implements InventoryChangedListener, SnailScreenHandler.InventoryPageChangeListener {
@@ -18,20 +18,32 @@
 package dev.lambdaurora.lovely_snails.entity;
 
 import dev.lambdaurora.lovely_snails.LovelySnails;
+import dev.lambdaurora.lovely_snails.entity.ai.SnailNavigation;
 import dev.lambdaurora.lovely_snails.entity.goal.SnailFollowParentGoal;
 import dev.lambdaurora.lovely_snails.entity.goal.SnailHideGoal;
+import dev.lambdaurora.lovely_snails.entity.goal.SnailLodGoal;
+import dev.lambdaurora.lovely_snails.entity.goal.SnailLookAtPlayerGoal;
+import dev.lambdaurora.lovely_snails.entity.goal.SnailMateGoal;
 import dev.lambdaurora.lovely_snails.mixin.PassiveEntityAccessor;
 import dev.lambdaurora.lovely_snails.mixin.ShulkerEntityAccessor;
+import dev.lambdaurora.lovely_snails.network.SnailStatusBatcher;
 import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import dev.lambdaurora.lovely_snails.screen.SnailInventorySync;
 import dev.lambdaurora.lovely_snails.screen.SnailScreenHandler;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import dev.lambdaurora.lovely_snails.world.SnailClimate;
+import dev.lambdaurora.lovely_snails.world.SnailHotStore;
+import dev.lambdaurora.lovely_snails.world.SnailSenses;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
-import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.CarpetBlock;
 import net.minecraft.block.DyedCarpetBlock;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.goal.*;
+import net.minecraft.entity.ai.pathing.EntityNavigation;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.attribute.EntityAttributes;
@@ -55,9 +67,8 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.screen.GenericContainerScreenHandler;
+import net.minecraft.predicate.entity.EntityPredicates;
 import net.minecraft.screen.ScreenHandler;
-import net.minecraft.screen.SimpleNamedScreenHandlerFactory;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
@@ -69,30 +80,44 @@ import net.minecraft.util.Arm;
 import net.minecraft.util.DyeColor;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.random.RandomGenerator;
 import net.minecraft.world.*;
 import net.minecraft.world.event.GameEvent;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 /**
  * Represents the snail entity.
  *
  * @author LambdAurora
- * @version 1.1.3
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class SnailEntity extends TameableEntity implements InventoryChangedListener, Saddleable {
 	private static final EntityAttributeModifier SCARED_ARMOR_BONUS = ShulkerEntityAccessor.lovely_snails$getCoveredArmorBonus();
 
 	private static final TrackedData<Boolean> CHILD = PassiveEntityAccessor.lovely_snails$getChild();
-	private static final TrackedData<Byte> SNAIL_FLAGS = DataTracker.registerData(SnailEntity.class, TrackedDataHandlerRegistry.BYTE);
-	private static final TrackedData<Byte> CHEST_FLAGS = DataTracker.registerData(SnailEntity.class, TrackedDataHandlerRegistry.BYTE);
-	private static final TrackedData<Integer> CARPET_COLOR = DataTracker.registerData(SnailEntity.class, TrackedDataHandlerRegistry.INTEGER);
+	/**
+	 * The render state of the snail packed in a single word, so equipment changes only dirty one tracked entry.
+	 * <p>
+	 * Bits 0-7 hold the snail flags, bits 8-13 hold the chest flags (2 bits per chest slot),
+	 * and bits 14-18 hold the carpet color ID plus one ({@code 0} means no carpet).
+	 */
+	private static final TrackedData<Integer> SNAIL_STATE = DataTracker.registerData(SnailEntity.class, TrackedDataHandlerRegistry.INTEGER);
+	private static final int CHEST_FLAGS_SHIFT = 8;
+	private static final int CHEST_FLAGS_MASK = 0b11_1111 << CHEST_FLAGS_SHIFT;
+	private static final int CARPET_COLOR_SHIFT = 14;
+	private static final int CARPET_COLOR_MASK = 0b1_1111 << CARPET_COLOR_SHIFT;
 	private static final int SADDLED_FLAG = 0b0000_0001;
 	private static final int SCARED_FLAG = 0b0000_0010;
 	private static final int INTERACTION_COOLDOWN_FLAG = 0b0000_0100;
@@ -106,10 +131,72 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 
 	private static final int SATISFACTION_START = -256;
 
+	/**
+	 * The tracking update interval of a ridden snail, in ticks.
+	 */
+	public static final int RIDDEN_TRACKING_INTERVAL = 2;
+	/**
+	 * The tracking update interval of an unridden snail that is moving, in ticks.
+	 */
+	public static final int MOVING_TRACKING_INTERVAL = 3;
+	/**
+	 * The tracking update interval of an unridden snail that stays in place, in ticks.
+	 */
+	public static final int IDLE_TRACKING_INTERVAL = 10;
+	/**
+	 * The squared distance a ridden snail may drift from the position predicted by its rider's client
+	 * before the server sends a correction.
+	 */
+	public static final double RIDDEN_MOVEMENT_TOLERANCE = 0.25;
+	private static final int CHUNK_PREFETCH_INTERVAL = 20;
+	private static final double CHUNK_PREFETCH_DISTANCE_FACTOR = 8.0;
+	/**
+	 * The interval in ticks at which baby snails gain the passive growth satisfaction set by the game rule.
+	 */
+	public static final int PASSIVE_GROWTH_INTERVAL = 1200;
+	/**
+	 * The distance players must be away from an idle snail for it to join a herd.
+	 */
+	public static final double HERD_COLLAPSE_DISTANCE = 32.0;
+	/**
+	 * The maximum amount of other snails a snail pushes per tick.
+	 */
+	public static final int MAX_SNAIL_PUSHES = 8;
+
 	private SimpleInventory inventory;
+	private SnailInventorySync inventorySync;
+	// Only used while the snail isn't in the hot store of its world.
 	private int satisfaction;
 	private short interactionCooldown;
+	private @Nullable SnailHotStore hotStore;
+	// The owner lookup cache, the cached owner is validated on each use and failed lookups are remembered for the current tick.
+	private @Nullable WeakReference<PlayerEntity> cachedOwner;
+	private @Nullable UUID ownerMissUuid;
+	private long ownerMissTime = -1;
+	private int hotSlot = -1;
+	private int senseGeneration;
+	private int senseIndex;
 	private boolean reading;
+	/**
+	 * The world time this snail was saved at, the time spent unloaded is caught up on the next tick.
+	 */
+	private long catchUpFrom = -1;
+	/**
+	 * The satisfaction gain withheld by a blocked growth when this snail was saved, queued again on the next tick.
+	 */
+	private int savedBlockedGrowth;
+	private int lastTrackedPositionUpdate;
+	private final List<ChunkPos> prefetchedChunks = new ArrayList<>();
+	// Scratch state of the ridden tick and dismount paths, reused to avoid allocations.
+	private final LongList aheadChunks = new LongArrayList();
+	private final BlockPos.Mutable dismountPos = new BlockPos.Mutable();
+	private final BlockPos.Mutable clearancePos = new BlockPos.Mutable();
+	private Vec3d riddenMovementInput = Vec3d.ZERO;
+	private final List<SnailEntity> crowdingSnails = new ArrayList<>();
+	/**
+	 * Whether this snail touched pushable entities during its last cramming pass.
+	 */
+	private boolean crowded = true;
 
 	public SnailEntity(EntityType<? extends SnailEntity> entityType, World world) {
 		super(entityType, world);
@@ -136,21 +223,29 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 			@Nullable EntityData entityData, @Nullable NbtCompound entityNbt
 	) {
 		this.setBaby(true);
-		this.satisfaction = SATISFACTION_START + this.random.nextInt(10);
+		this.setRawSatisfaction(SATISFACTION_START + this.random.nextInt(10));
 		return super.initialize(world, difficulty, spawnReason, entityData, entityNbt);
 	}
 
+	private int getSnailState() {
+		return this.hotStore != null ? this.hotStore.getSnailState(this.hotSlot) : this.dataTracker.get(SNAIL_STATE);
+	}
+
+	private void setSnailState(int mask, int value) {
+		int state = (this.getSnailState() & ~mask) | (value & mask);
+		this.dataTracker.set(SNAIL_STATE, state);
+
+		if (this.hotStore != null) {
+			this.hotStore.setSnailState(this.hotSlot, state);
+		}
+	}
+
 	protected boolean getSnailFlag(int bitmask) {
-		return (this.dataTracker.get(SNAIL_FLAGS) & bitmask) != 0;
+		return (this.getSnailState() & bitmask) != 0;
 	}
 
 	protected void setSnailFlag(int bitmask, boolean flag) {
-		byte b = this.dataTracker.get(SNAIL_FLAGS);
-		if (flag) {
-			this.dataTracker.set(SNAIL_FLAGS, (byte) (b | bitmask));
-		} else {
-			this.dataTracker.set(SNAIL_FLAGS, (byte) (b & ~bitmask));
-		}
+		this.setSnailState(bitmask, flag ? bitmask : 0);
 	}
 
 	/**
@@ -169,69 +264,160 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 	 */
 	public void setScared(boolean scared) {
 		this.setSnailFlag(SCARED_FLAG, scared);
+	}
 
-		if (!this.getWorld().isClient()) {
-			this.getAttributeInstance(EntityAttributes.GENERIC_ARMOR).removeModifier(SCARED_ARMOR_BONUS.getId());
-			if (scared) {
-				this.getAttributeInstance(EntityAttributes.GENERIC_ARMOR).addPersistentModifier(SCARED_ARMOR_BONUS);
-			}
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A scared snail is hidden in its shell, which grants the same armor bonus as a covered shulker.
+	 * The bonus is applied here rather than through an attribute modifier to avoid attribute syncs each time the snail hides.
+	 */
+	@Override
+	public int getArmor() {
+		int armor = super.getArmor();
+
+		if (this.isScared()) {
+			armor += (int) SCARED_ARMOR_BONUS.getValue();
 		}
+
+		return armor;
 	}
 
 	public int getSatisfaction() {
 		if (this.getWorld().isClient()) {
 			return this.dataTracker.get(CHILD) ? -1 : 1;
 		} else {
-			return this.satisfaction;
+			return this.hotStore != null ? this.hotStore.getSatisfaction(this.hotSlot) : this.satisfaction;
 		}
 	}
 
 	public void setSatisfaction(int satisfaction) {
-		this.satisfaction = satisfaction;
+		this.setRawSatisfaction(satisfaction);
 
 		this.setBaby(satisfaction < 0);
 	}
 
+	private void setRawSatisfaction(int satisfaction) {
+		if (this.hotStore != null) {
+			this.hotStore.setSatisfaction(this.hotSlot, satisfaction);
+		} else {
+			this.satisfaction = satisfaction;
+		}
+	}
+
 	/**
 	 * Satisfies by the specified amount this snail.
 	 *
 	 * @param baseSatisfaction the base satisfaction amount
 	 */
 	public void satisfies(int baseSatisfaction) {
-		World world = this.getWorld();
-
 		if (this.isBaby()) {
 			this.putInteractionOnCooldown();
 			int newSatisfaction = this.getSatisfaction() + baseSatisfaction + this.random.nextInt(10);
 
-			if (newSatisfaction >= 0) {
-				var adultDimensions = this.getType().getDimensions();
-				float width = adultDimensions.width * .8f;
-				float eyeHeight = this.getEyeHeight(EntityPose.STANDING, adultDimensions);
-				var pos = BlockPos.create(this.getX(), this.getY() + eyeHeight, this.getZ());
-				var box = Box.of(new Vec3d(this.getX(), this.getY() + eyeHeight, this.getZ()), width, 1.0E-6, width);
-
-				// Adult form will suffocate, so we must prevent the growth until the player moves the snail.
-				boolean willSuffocate = world.getStatesInBox(box)
-						.filter(Predicate.not(AbstractBlock.AbstractBlockState::isAir))
-						.anyMatch(state -> state.shouldSuffocate(this.getWorld(), pos));
-				if (willSuffocate) {
-					world.sendEntityStatus(this, (byte) 10);
-					return;
-				}
+			if (!this.tryGrow(newSatisfaction)) {
+				SnailStatusBatcher.sendStatus(this, (byte) 10);
+				return;
+			}
+		}
+
+		SnailStatusBatcher.sendStatus(this, (byte) 8);
+	}
+
+	/**
+	 * Sets the satisfaction of this baby snail, unless it would grow up in a place where its adult form would suffocate.
+	 * <p>
+	 * A blocked growth is queued and applied once there's enough space for the adult form.
+	 *
+	 * @param newSatisfaction the new satisfaction
+	 * @return {@code true} if the satisfaction has been set, or {@code false} if the growth got blocked
+	 */
+	private boolean tryGrow(int newSatisfaction) {
+		// Adult form will suffocate, so we must prevent the growth until the player moves the snail or clears the space.
+		if (newSatisfaction >= 0 && this.willSuffocateAsAdult()) {
+			if (this.getWorld() instanceof ServerWorld serverWorld) {
+				LovelySnailsServerWorld.get(serverWorld).lovely_snails$getGrowthQueue().queue(this, newSatisfaction);
 			}
 
-			this.setSatisfaction(newSatisfaction);
+			return false;
 		}
 
-		world.sendEntityStatus(this, (byte) 8);
+		this.setSatisfaction(newSatisfaction);
+		return true;
+	}
+
+	/**
+	 * Grows this snail by the given amount of passive satisfaction, if it's still a baby.
+	 *
+	 * @param amount the satisfaction to add
+	 */
+	private void growPassively(long amount) {
+		if (amount > 0 && this.isBaby()) {
+			this.tryGrow((int) Math.min(Integer.MAX_VALUE, this.getSatisfaction() + amount));
+		}
+	}
+
+	/**
+	 * Catches up the time this snail spent unloaded, as if it was ticking during that time.
+	 * <p>
+	 * The interaction cooldown expires and the passive growth is applied in one step,
+	 * so a snail growing up while unloaded only grows up once.
+	 *
+	 * @param elapsedTicks the amount of ticks this snail spent unloaded
+	 */
+	public void catchUp(long elapsedTicks) {
+		if (elapsedTicks <= 0)
+			return;
+
+		this.setInteractionCooldown((int) Math.max(0, this.getInteractionCooldown() - elapsedTicks));
+
+		int passiveGrowth = this.getWorld().getGameRules().getInt(LovelySnailsRegistry.SNAIL_PASSIVE_GROWTH);
+		this.growPassively(passiveGrowth * (elapsedTicks / PASSIVE_GROWTH_INTERVAL));
+	}
+
+	/**
+	 * Returns whether the adult form of this snail would suffocate at its current position.
+	 *
+	 * @return {@code true} if the adult form would suffocate, else {@code false}
+	 */
+	public boolean willSuffocateAsAdult() {
+		var world = this.getWorld();
+		var adultDimensions = this.getType().getDimensions();
+		double halfWidth = adultDimensions.width * .4;
+		double eyeY = this.getY() + this.getEyeHeight(EntityPose.STANDING, adultDimensions);
+
+		int minX = MathHelper.floor(this.getX() - halfWidth);
+		int maxX = MathHelper.floor(this.getX() + halfWidth);
+		int minY = MathHelper.floor(eyeY - 5.0E-7);
+		int maxY = MathHelper.floor(eyeY + 5.0E-7);
+		int minZ = MathHelper.floor(this.getZ() - halfWidth);
+		int maxZ = MathHelper.floor(this.getZ() + halfWidth);
+
+		if (!world.isRegionLoaded(minX, minY, minZ, maxX, maxY, maxZ)) {
+			return false;
+		}
+
+		var pos = this.clearancePos;
+		for (int y = minY; y <= maxY; y++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				for (int x = minX; x <= maxX; x++) {
+					var state = world.getBlockState(pos.set(x, y, z));
+
+					if (!state.isAir() && state.shouldSuffocate(world, pos)) {
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
 	}
 
 	public short getInteractionCooldown() {
 		if (this.getWorld().isClient()) {
 			return (short) (this.getSnailFlag(INTERACTION_COOLDOWN_FLAG) ? 1 : 0);
 		} else {
-			return this.interactionCooldown;
+			return this.hotStore != null ? this.hotStore.getInteractionCooldown(this.hotSlot) : this.interactionCooldown;
 		}
 	}
 
@@ -240,11 +426,103 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 	}
 
 	public void setInteractionCooldown(int interactionCooldown) {
-		boolean onCooldown = this.interactionCooldown > 0;
+		boolean onCooldown = this.getInteractionCooldown() > 0;
 		if (onCooldown == (interactionCooldown == 0))
 			this.setSnailFlag(INTERACTION_COOLDOWN_FLAG, interactionCooldown != 0);
 
-		this.interactionCooldown = (short) interactionCooldown;
+		if (this.hotStore != null) {
+			this.hotStore.setInteractionCooldown(this.hotSlot, (short) interactionCooldown);
+		} else {
+			this.interactionCooldown = (short) interactionCooldown;
+		}
+	}
+
+	/**
+	 * Called by the hot store once the interaction cooldown reached zero.
+	 */
+	public void onInteractionCooldownEnd() {
+		this.setSnailFlag(INTERACTION_COOLDOWN_FLAG, false);
+	}
+
+	/* Hot state */
+
+	/**
+	 * Moves the hot state of this snail into the given store, this snail reads and writes its state through it until detached.
+	 *
+	 * @param store the hot store of the world this snail got loaded in
+	 */
+	public void attachHotState(SnailHotStore store) {
+		if (this.hotStore != null)
+			return;
+
+		this.hotSlot = store.add(this, this.satisfaction, this.interactionCooldown, this.dataTracker.get(SNAIL_STATE));
+		this.hotStore = store;
+	}
+
+	/**
+	 * Moves back the hot state of this snail into its own fields and frees its slot in the hot store.
+	 */
+	public void detachHotState() {
+		if (this.hotStore == null)
+			return;
+
+		this.satisfaction = this.hotStore.getSatisfaction(this.hotSlot);
+		this.interactionCooldown = this.hotStore.getInteractionCooldown(this.hotSlot);
+		this.hotStore.remove(this.hotSlot);
+		this.hotStore = null;
+		this.hotSlot = -1;
+	}
+
+	/**
+	 * Called by the hot store when this snail's slot moved.
+	 *
+	 * @param slot the new slot
+	 */
+	public void setHotSlot(int slot) {
+		this.hotSlot = slot;
+	}
+
+	/* Navigation */
+
+	@Override
+	protected EntityNavigation createNavigation(World world) {
+		return new SnailNavigation(this, world);
+	}
+
+	/* Senses */
+
+	/**
+	 * {@return the sensing results of the world this snail is in, or {@code null} if this snail has no fresh results}
+	 */
+	public @Nullable SnailSenses getSenses() {
+		if (this.getWorld() instanceof ServerWorld world) {
+			var senses = LovelySnailsServerWorld.get(world).lovely_snails$getSenses();
+
+			if (senses.isFresh(this)) {
+				return senses;
+			}
+		}
+
+		return null;
+	}
+
+	public int getSenseGeneration() {
+		return this.senseGeneration;
+	}
+
+	public int getSenseIndex() {
+		return this.senseIndex;
+	}
+
+	/**
+	 * Called by the senses when taking a snapshot of this snail.
+	 *
+	 * @param generation the generation of the snapshot
+	 * @param index the index of this snail in the snapshot
+	 */
+	public void setSenseIndex(int generation, int index) {
+		this.senseGeneration = generation;
+		this.senseIndex = index;
 	}
 
 	/**
@@ -279,18 +557,67 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		return !this.isLocked() || (entity instanceof LivingEntity livingEntity && this.isOwner(livingEntity));
 	}
 
+	/**
+	 * {@return the climate this snail is in}
+	 */
+	public SnailClimate getClimate() {
+		if (this.getWorld() instanceof ServerWorld world) {
+			return LovelySnailsServerWorld.get(world).lovely_snails$getClimateCache().get(world, this.getBlockPos());
+		}
+
+		return SnailClimate.of(this.getWorld(), this.getBlockPos());
+	}
+
+	@Override
+	public @Nullable LivingEntity getOwner() {
+		var uuid = this.getOwnerUuid();
+		if (uuid == null)
+			return null;
+
+		// A disconnected or respawned owner is removed, while an owner which changed dimension is in another world.
+		var owner = this.cachedOwner == null ? null : this.cachedOwner.get();
+		if (owner != null && !owner.isRemoved() && owner.getWorld() == this.getWorld() && uuid.equals(owner.getUuid()))
+			return owner;
+
+		long time = this.getWorld().getTime();
+		if (time == this.ownerMissTime && uuid.equals(this.ownerMissUuid))
+			return null;
+
+		owner = this.getWorld().getPlayerByUuid(uuid);
+		if (owner == null) {
+			this.cachedOwner = null;
+			this.ownerMissUuid = uuid;
+			this.ownerMissTime = time;
+		} else {
+			this.cachedOwner = new WeakReference<>(owner);
+		}
+
+		return owner;
+	}
+
+	@Override
+	public void setOwnerUuid(@Nullable UUID uuid) {
+		super.setOwnerUuid(uuid);
+		this.cachedOwner = null;
+		this.ownerMissUuid = null;
+	}
+
 	public static @Nullable DyeColor getColorFromCarpet(ItemStack color) {
 		var block = Block.getBlockFromItem(color.getItem());
 		return block instanceof DyedCarpetBlock dyedCarpetBlock ? dyedCarpetBlock.getDyeColor() : null;
 	}
 
 	public void setCarpetColor(@Nullable DyeColor color) {
-		this.dataTracker.set(CARPET_COLOR, color == null ? -1 : color.getId());
+		this.setSnailState(CARPET_COLOR_MASK, packCarpetColor(color));
 	}
 
 	public @Nullable DyeColor getCarpetColor() {
-		int i = this.dataTracker.get(CARPET_COLOR);
-		return i == -1 ? null : DyeColor.byId(i);
+		int i = (this.getSnailState() & CARPET_COLOR_MASK) >>> CARPET_COLOR_SHIFT;
+		return i == 0 ? null : DyeColor.byId(i - 1);
+	}
+
+	private static int packCarpetColor(@Nullable DyeColor color) {
+		return (color == null ? 0 : color.getId() + 1) << CARPET_COLOR_SHIFT;
 	}
 
 	@Override
@@ -340,9 +667,7 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 	protected void initDataTracker() {
 		super.initDataTracker();
 
-		this.dataTracker.startTracking(SNAIL_FLAGS, (byte) 0);
-		this.dataTracker.startTracking(CHEST_FLAGS, (byte) 0);
-		this.dataTracker.startTracking(CARPET_COLOR, -1);
+		this.dataTracker.startTracking(SNAIL_STATE, 0);
 
 		this.calculateDimensions();
 	}
@@ -363,10 +688,15 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		this.reading = true;
 		super.readCustomDataFromNbt(nbt);
 
+		// Older snails may have saved the scared armor bonus as an attribute modifier.
+		this.getAttributeInstance(EntityAttributes.GENERIC_ARMOR).removeModifier(SCARED_ARMOR_BONUS.getId());
+
 		this.setSatisfaction(nbt.contains("satisfaction", NbtElement.INT_TYPE) ?
 				nbt.getInt("satisfaction") : SATISFACTION_START);
 		this.setInteractionCooldown(nbt.getShort("interaction_cooldown"));
 		this.setLocked(nbt.getBoolean("locked"));
+		this.catchUpFrom = nbt.contains("last_tick", NbtElement.LONG_TYPE) ? nbt.getLong("last_tick") : -1;
+		this.savedBlockedGrowth = nbt.getInt("blocked_growth");
 
 		this.readSpecialSlot(nbt, "saddle", SADDLE_SLOT, stack -> stack.isOf(Items.SADDLE));
 		this.readSpecialSlot(nbt, "decor", CARPET_SLOT,
@@ -400,6 +730,15 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		nbt.putInt("satisfaction", this.getSatisfaction());
 		nbt.putShort("interaction_cooldown", this.getInteractionCooldown());
 		nbt.putBoolean("locked", this.isLocked());
+		// If the snail hasn't ticked since it got loaded, the time to catch up is kept.
+		nbt.putLong("last_tick", this.catchUpFrom >= 0 ? this.catchUpFrom : this.getWorld().getTime());
+		int blockedGrowth = this.savedBlockedGrowth;
+		if (this.getWorld() instanceof ServerWorld world) {
+			blockedGrowth = Math.max(blockedGrowth, LovelySnailsServerWorld.get(world).lovely_snails$getGrowthQueue().getBlockedGrowth(this));
+		}
+		if (blockedGrowth > 0) {
+			nbt.putInt("blocked_growth", blockedGrowth);
+		}
 
 		this.writeSpecialSlot(nbt, "saddle", SADDLE_SLOT);
 		this.writeSpecialSlot(nbt, "decor", CARPET_SLOT);
@@ -422,18 +761,18 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 
 		this.goalSelector.add(0, new SwimGoal(this));
 		this.goalSelector.add(1, new EscapeDangerGoal(this, 1.2));
-		this.goalSelector.add(1, new SnailHideGoal(this, 5));
-		this.goalSelector.add(2, new AnimalMateGoal(this, 1.0, SnailEntity.class));
+		this.goalSelector.add(1, new SnailHideGoal(this, 5, 7, 40));
+		this.goalSelector.add(2, new SnailMateGoal(this, (ServerWorld) this.getWorld(), 1.0));
 		this.goalSelector.add(4, new SnailFollowParentGoal(this, 1.0));
 		this.goalSelector.add(6, new WanderAroundFarGoal(this, 0.7));
-		this.goalSelector.add(7, new LookAtEntityGoal(this, PlayerEntity.class, 6.f));
-		this.goalSelector.add(8, new LookAroundGoal(this));
+		this.goalSelector.add(7, new SnailLodGoal(this, new SnailLookAtPlayerGoal(this, 6.f)));
+		this.goalSelector.add(8, new SnailLodGoal(this, new LookAroundGoal(this)));
 	}
 
 	/* Inventory */
 
 	public int getChestFlags() {
-		return this.dataTracker.get(CHEST_FLAGS);
+		return (this.getSnailState() & CHEST_FLAGS_MASK) >> CHEST_FLAGS_SHIFT;
 	}
 
 	public ItemStack getChest(int slot) {
@@ -461,8 +800,11 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 	 */
 	public void syncInventoryToFlags() {
 		if (!this.getWorld().isClient()) {
-			this.setSnailFlag(SADDLED_FLAG, !this.getSaddle().isEmpty());
-			this.setCarpetColor(getColorFromCarpet(this.inventory.getStack(CARPET_SLOT)));
+			int state = 0;
+			if (!this.getSaddle().isEmpty())
+				state |= SADDLED_FLAG;
+
+			state |= packCarpetColor(getColorFromCarpet(this.inventory.getStack(CARPET_SLOT)));
 
 			int chestFlags = 0;
 			for (int chest = 0; chest < 3; chest++) {
@@ -476,7 +818,10 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 
 				chestFlags |= flag << chest * 2;
 			}
-			this.dataTracker.set(CHEST_FLAGS, (byte) chestFlags);
+			state |= chestFlags << CHEST_FLAGS_SHIFT;
+
+			// Everything derived from the inventory is updated at once.
+			this.setSnailState(SADDLED_FLAG | CHEST_FLAGS_MASK | CARPET_COLOR_MASK, state);
 		}
 	}
 
@@ -486,18 +831,21 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		}
 	}
 
-	public void openEnderChestInventory(PlayerEntity player) {
-		if (!this.getWorld().isClient() && (!this.hasPassengers() || this.hasPassenger(player)) && this.isTamed()) {
-			player.openHandledScreen(new SimpleNamedScreenHandlerFactory((syncId, playerInventory, playerEntity) -> {
-				return GenericContainerScreenHandler.createGeneric9x3(syncId, playerInventory, player.getEnderChestInventory());
-			}, Text.translatable("container.enderchest")));
-		}
-	}
-
 	public boolean isInventoryDifferent(Inventory inventory) {
 		return this.inventory != inventory;
 	}
 
+	/**
+	 * {@return the synchronization hub shared by every player viewing the inventory of this snail}
+	 */
+	public SnailInventorySync getInventorySync() {
+		if (this.inventorySync == null) {
+			this.inventorySync = new SnailInventorySync(this, this.inventory);
+		}
+
+		return this.inventorySync;
+	}
+
 	@Override
 	protected void dropInventory() {
 		super.dropInventory();
@@ -516,6 +864,12 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		this.inventory = new SimpleInventory(this.getInventorySize());
 		if (previousInventory != null) {
 			previousInventory.removeListener(this);
+
+			// Viewers of the previous inventory get closed, the next ones get a sync bound to the new inventory.
+			if (this.inventorySync != null) {
+				this.inventorySync.unbind();
+				this.inventorySync = null;
+			}
 			int maxSize = Math.min(previousInventory.size(), this.inventory.size());
 
 			for (int slot = 0; slot < maxSize; ++slot) {
@@ -540,12 +894,7 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		}
 
 		if (!this.reading && !this.getWorld().isClient() && !hadDecor && this.getCarpetColor() != null && this.canSatisfy()) {
-			var biome = this.getWorld().getBiome(this.getBlockPos());
-
-			int baseSatisfaction;
-			if (biome.value().doesNotSnow(this.getBlockPos())) baseSatisfaction = 15;
-			else baseSatisfaction = 5;
-			this.satisfies(baseSatisfaction);
+			this.satisfies(this.getClimate().getDecorSatisfaction());
 		}
 	}
 
@@ -635,7 +984,7 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 						this.setSatisfaction(this.getSatisfaction() - 4000);
 						this.putInteractionOnCooldown();
 
-						world.sendEntityStatus(this, (byte) 9);
+						SnailStatusBatcher.sendStatus(this, (byte) 9);
 					}
 
 					return ActionResult.success(world.isClient());
@@ -646,18 +995,18 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		return super.interactMob(player, hand);
 	}
 
-	public void onWaterSplashed(Entity waterOwner) {
-		if (this.getOwner() != waterOwner)
+	/**
+	 * Called when this snail is splashed with water.
+	 *
+	 * @param waterOwner the entity which threw the water, if any
+	 */
+	public void onWaterSplashed(@Nullable Entity waterOwner) {
+		// Owners are compared by UUID, ownerless water only satisfies snails whose owner isn't in the world.
+		if (waterOwner == null ? this.getOwnerUuid() != null && this.getOwner() != null : !waterOwner.getUuid().equals(this.getOwnerUuid()))
 			return;
 
 		if (this.canSatisfy()) {
-			var biome = this.getWorld().getBiome(this.getBlockPos());
-
-			int baseSatisfaction;
-			if (!biome.value().hasPrecipitation()) baseSatisfaction = 20;
-			else if (biome.value().doesNotSnow(this.getBlockPos())) baseSatisfaction = 10;
-			else baseSatisfaction = 15;
-			this.satisfies(baseSatisfaction);
+			this.satisfies(this.getClimate().getWaterSatisfaction());
 		}
 	}
 
@@ -700,15 +1049,24 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		return !this.isLocked() || this.isOwner(entity);
 	}
 
-	private @Nullable Vec3d tryDismountTowards(Vec3d vec3d, LivingEntity livingEntity) {
-		double targetX = this.getX() + vec3d.x;
-		double targetY = this.getBoundingBox().minY;
-		double targetZ = this.getZ() + vec3d.z;
-		var pos = new BlockPos.Mutable();
+	private @Nullable Vec3d tryDismountTowards(float yaw, LivingEntity livingEntity) {
+		// Same offset as Entity#getPassengerDismountOffset, without the intermediate vector.
+		double distance = (this.getWidth() + livingEntity.getWidth() + 1.0E-5f) / 2.0;
+		float offsetX = -MathHelper.sin(yaw * MathHelper.RADIANS_PER_DEGREE);
+		float offsetZ = MathHelper.cos(yaw * MathHelper.RADIANS_PER_DEGREE);
+		float scale = Math.max(Math.abs(offsetX), Math.abs(offsetZ));
 
-		for (var pose : livingEntity.getPoses()) {
+		double targetX = this.getX() + offsetX * distance / scale;
+		double targetY = this.getBoundingBox().minY;
+		double targetZ = this.getZ() + offsetZ * distance / scale;
+		double maxDismountY = this.getBoundingBox().maxY + 0.75;
+		var pos = this.dismountPos;
+		var poses = livingEntity.getPoses();
+
+		for (int i = 0; i < poses.size(); i++) {
+			var pose = poses.get(i);
+			var poseBoundingBox = livingEntity.getBoundingBox(pose);
 			pos.set(targetX, targetY, targetZ);
-			double maxDismountY = this.getBoundingBox().maxY + 0.75;
 
 			while (true) {
 				double dismountHeight = this.getWorld().getDismountHeight(pos);
@@ -717,11 +1075,10 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 				}
 
 				if (Dismounting.canDismountInBlock(dismountHeight)) {
-					var poseBoundingBox = livingEntity.getBoundingBox(pose);
-					var vec3d2 = new Vec3d(targetX, pos.getY() + dismountHeight, targetZ);
-					if (Dismounting.canPlaceEntityAt(this.getWorld(), livingEntity, poseBoundingBox.offset(vec3d2))) {
+					double dismountY = pos.getY() + dismountHeight;
+					if (Dismounting.canPlaceEntityAt(this.getWorld(), livingEntity, poseBoundingBox.offset(targetX, dismountY, targetZ))) {
 						livingEntity.setPose(pose);
-						return vec3d2;
+						return new Vec3d(targetX, dismountY, targetZ);
 					}
 				}
 
@@ -737,36 +1094,188 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 
 	@Override
 	public Vec3d updatePassengerForDismount(LivingEntity passenger) {
-		var rightDismountOffset = getPassengerDismountOffset(this.getWidth(), passenger.getWidth(),
-				this.getYaw() + (passenger.getMainArm() == Arm.RIGHT ? 90.f : -90.f));
-		var dismountPos = this.tryDismountTowards(rightDismountOffset, passenger);
+		var dismountPos = this.tryDismountTowards(this.getYaw() + (passenger.getMainArm() == Arm.RIGHT ? 90.f : -90.f), passenger);
 
 		if (dismountPos != null) {
 			return dismountPos;
 		} else {
-			var leftDismountOffset = getPassengerDismountOffset(this.getWidth(), passenger.getWidth(),
-					this.getYaw() + (passenger.getMainArm() == Arm.LEFT ? 90.f : -90.f));
-			dismountPos = this.tryDismountTowards(leftDismountOffset, passenger);
+			dismountPos = this.tryDismountTowards(this.getYaw() + (passenger.getMainArm() == Arm.LEFT ? 90.f : -90.f), passenger);
 			return dismountPos != null ? dismountPos : this.getPos();
 		}
 	}
 
 	/* Movement */
 
+	/**
+	 * {@return the interval in ticks between two position and rotation updates sent to the players tracking this snail}
+	 * <p>
+	 * Snails are slow, so unless ridden they don't need the update rate of other mobs.
+	 * Any velocity or tracked data change is still sent right away.
+	 * <p>
+	 * Vanilla already only sends the position of an entity which didn't move once every 60 ticks, which the idle interval divides,
+	 * so a snail standing perfectly still sends as many packets as before. The idle interval only saves the head rotation,
+	 * rotation and small position updates of a snail looking around or drifting while idle.
+	 */
+	public int getTrackingTickInterval() {
+		if (this.hasPassengers()) {
+			return RIDDEN_TRACKING_INTERVAL;
+		} else if (this.getNavigation().isIdle() && this.getVelocity().horizontalLengthSquared() < 1.0E-4) {
+			return IDLE_TRACKING_INTERVAL;
+		} else {
+			return MOVING_TRACKING_INTERVAL;
+		}
+	}
+
+	@Override
+	public void updateTrackedPositionAndAngles(double x, double y, double z, float yaw, float pitch, int interpolationSteps, boolean interpolate) {
+		if (!this.hasPassengers()) {
+			// Unridden snails receive sparse updates, the interpolation is spread over the time since the last one.
+			int sinceLastUpdate = this.age - this.lastTrackedPositionUpdate;
+			interpolationSteps = MathHelper.clamp(sinceLastUpdate, interpolationSteps, IDLE_TRACKING_INTERVAL);
+		}
+
+		this.lastTrackedPositionUpdate = this.age;
+		super.updateTrackedPositionAndAngles(x, y, z, yaw, pitch, interpolationSteps, interpolate);
+	}
+
 	@Override
 	public void tickMovement() {
 		super.tickMovement();
 
 		if (!this.getWorld().isClient() && this.isAlive()) {
-			if (this.random.nextInt(900) == 0 && this.deathTime == 0) {
-				this.heal(1.f);
+			if (this.savedBlockedGrowth > 0) {
+				LovelySnailsServerWorld.get((ServerWorld) this.getWorld()).lovely_snails$getGrowthQueue()
+						.queueGain(this, this.savedBlockedGrowth);
+				this.savedBlockedGrowth = 0;
+			}
+
+			if (this.catchUpFrom >= 0) {
+				this.catchUp(this.getWorld().getTime() - this.catchUpFrom);
+				this.catchUpFrom = -1;
+			}
+
+			if (this.hotStore != null) {
+				// Regeneration and the interaction cooldown are updated by the hot store at the end of the tick.
+				this.hotStore.markTicked(this.hotSlot);
+			} else {
+				if (this.random.nextInt(900) == 0 && this.deathTime == 0) {
+					this.heal(1.f);
+				}
+
+				short interactionCooldown = this.getInteractionCooldown();
+				if (interactionCooldown != 0) {
+					this.setInteractionCooldown(interactionCooldown - 1);
+				}
+			}
+
+			if (this.age % PASSIVE_GROWTH_INTERVAL == 0) {
+				this.growPassively(this.getWorld().getGameRules().getInt(LovelySnailsRegistry.SNAIL_PASSIVE_GROWTH));
 			}
 
-			short interactionCooldown = this.getInteractionCooldown();
-			if (interactionCooldown != 0) {
-				this.setInteractionCooldown(interactionCooldown - 1);
+			if (this.age % CHUNK_PREFETCH_INTERVAL == 0) {
+				this.updateChunkPrefetch((ServerWorld) this.getWorld());
+			}
+		}
+	}
+
+	/**
+	 * Returns whether this snail is idle enough to be collapsed into a herd.
+	 * <p>
+	 * Only tamed adults left alone in their pen, with no player around, may join a herd.
+	 *
+	 * @return {@code true} if this snail can join a herd, else {@code false}
+	 */
+	public boolean canJoinHerd() {
+		return this.isAlive() && this.isTamed() && !this.isBaby() && this.isPersistent()
+				&& !this.hasPassengers() && !this.hasVehicle() && !this.isLeashed()
+				&& !this.isInLove() && !this.isScared() && this.getAttacker() == null
+				&& this.getNavigation().isIdle()
+				&& this.getWorld() instanceof ServerWorld world
+				&& !LovelySnailsServerWorld.get(world).lovely_snails$getPlayerCache()
+				.isPlayerInRange(this.getX(), this.getY(), this.getZ(), HERD_COLLAPSE_DISTANCE);
+	}
+
+	/**
+	 * Requests the chunks ahead of a ridden snail to be loaded in advance.
+	 * <p>
+	 * Ridden snails are used as slow caravans over long distances, loading the chunks ahead with a low-level ticket
+	 * lets them be loaded or generated off-thread before the snail reaches them.
+	 * The chunks within the view distance are already loaded by the rider, so the prefetched chunks start right past it.
+	 * The tickets of the chunks which are no longer ahead of the snail are released.
+	 *
+	 * @param world the world this snail is in
+	 */
+	private void updateChunkPrefetch(ServerWorld world) {
+		var chunkManager = world.getChunkManager();
+		var aheadChunks = this.aheadChunks;
+		aheadChunks.clear();
+
+		if (this.getPrimaryPassenger() != null) {
+			double speed = this.getAttributeValue(EntityAttributes.GENERIC_MOVEMENT_SPEED);
+			int distance = 1 + MathHelper.ceil(speed * CHUNK_PREFETCH_DISTANCE_FACTOR);
+			float yaw = this.getYaw() * MathHelper.RADIANS_PER_DEGREE;
+			double directionX = -MathHelper.sin(yaw);
+			double directionZ = MathHelper.cos(yaw);
+			long currentChunk = this.getChunkPos().toLong();
+			// The view distance is a square around the rider, a diagonal step moves less than a chunk along each axis.
+			int viewDistance = world.getServer().getPlayerManager().getViewDistance();
+			int firstStep = MathHelper.ceil(viewDistance / Math.max(Math.abs(directionX), Math.abs(directionZ)));
+
+			for (int step = firstStep; step < firstStep + distance; step++) {
+				long chunk = ChunkPos.toLong(
+						ChunkSectionPos.getSectionCoord(this.getX() + directionX * step * 16),
+						ChunkSectionPos.getSectionCoord(this.getZ() + directionZ * step * 16)
+				);
+
+				if (chunk != currentChunk && !aheadChunks.contains(chunk)) {
+					aheadChunks.add(chunk);
+				}
+			}
+		}
+
+		for (int i = this.prefetchedChunks.size() - 1; i >= 0; i--) {
+			var chunkPos = this.prefetchedChunks.get(i);
+
+			// Chunks still ahead are kept, adding an existing ticket refreshes its expiry.
+			if (aheadChunks.rem(chunkPos.toLong())) {
+				chunkManager.addTicket(LovelySnailsRegistry.SNAIL_PREFETCH_TICKET, chunkPos, 0, chunkPos);
+			} else {
+				chunkManager.removeTicket(LovelySnailsRegistry.SNAIL_PREFETCH_TICKET, chunkPos, 0, chunkPos);
+				this.prefetchedChunks.remove(i);
 			}
 		}
+
+		for (int i = 0; i < aheadChunks.size(); i++) {
+			var chunkPos = new ChunkPos(aheadChunks.getLong(i));
+			chunkManager.addTicket(LovelySnailsRegistry.SNAIL_PREFETCH_TICKET, chunkPos, 0, chunkPos);
+			this.prefetchedChunks.add(chunkPos);
+		}
+	}
+
+	/**
+	 * Releases the tickets of the chunks prefetched by this snail.
+	 */
+	private void releasePrefetchedChunks() {
+		if (this.prefetchedChunks.isEmpty() || !(this.getWorld() instanceof ServerWorld world))
+			return;
+
+		var chunkManager = world.getChunkManager();
+		for (var chunkPos : this.prefetchedChunks) {
+			chunkManager.removeTicket(LovelySnailsRegistry.SNAIL_PREFETCH_TICKET, chunkPos, 0, chunkPos);
+		}
+		this.prefetchedChunks.clear();
+	}
+
+	@Override
+	public void onDeath(DamageSource damageSource) {
+		super.onDeath(damageSource);
+		this.releasePrefetchedChunks();
+	}
+
+	@Override
+	public void remove(RemovalReason reason) {
+		this.releasePrefetchedChunks();
+		super.remove(reason);
 	}
 
 	@Override
@@ -788,15 +1297,12 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 				this.setRotation(this.getYaw(), this.getPitch());
 				this.bodyYaw = this.getYaw();
 				this.headYaw = this.bodyYaw;
-				float sidewaysSpeed = rider.sidewaysSpeed * .25f;
-				float forwardSpeed = rider.forwardSpeed * .4f;
-				if (forwardSpeed <= 0.f) {
-					forwardSpeed *= .25f;
-				}
+				float sidewaysSpeed = getRiddenSidewaysSpeed(rider);
+				float forwardSpeed = getRiddenForwardSpeed(rider);
 
 				if (this.isLogicalSideForUpdatingMovement()) {
 					this.setMovementSpeed((float) this.getAttributeValue(EntityAttributes.GENERIC_MOVEMENT_SPEED));
-					super.travel(new Vec3d(sidewaysSpeed, movementInput.y, forwardSpeed));
+					super.travel(this.getRiddenMovementInput(sidewaysSpeed, movementInput.y, forwardSpeed));
 				} else if (rider instanceof PlayerEntity) {
 					this.setVelocity(Vec3d.ZERO);
 				}
@@ -809,11 +1315,115 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 		}
 	}
 
+	/**
+	 * Returns the movement input of the ridden snail, the previous vector is reused as long as the rider input doesn't change.
+	 *
+	 * @param sidewaysSpeed the sideways speed
+	 * @param upwardSpeed the upward speed
+	 * @param forwardSpeed the forward speed
+	 * @return the movement input
+	 */
+	private Vec3d getRiddenMovementInput(double sidewaysSpeed, double upwardSpeed, double forwardSpeed) {
+		var input = this.riddenMovementInput;
+
+		if (input.x != sidewaysSpeed || input.y != upwardSpeed || input.z != forwardSpeed) {
+			input = this.riddenMovementInput = new Vec3d(sidewaysSpeed, upwardSpeed, forwardSpeed);
+		}
+
+		return input;
+	}
+
+	/**
+	 * {@return the sideways movement input of a snail ridden by the given rider}
+	 * <p>
+	 * This is shared by the rider's client, which predicts the snail movement, and the server.
+	 *
+	 * @param rider the rider controlling the snail
+	 */
+	public static float getRiddenSidewaysSpeed(LivingEntity rider) {
+		return rider.sidewaysSpeed * .25f;
+	}
+
+	/**
+	 * {@return the forward movement input of a snail ridden by the given rider}
+	 * <p>
+	 * This is shared by the rider's client, which predicts the snail movement, and the server.
+	 *
+	 * @param rider the rider controlling the snail
+	 */
+	public static float getRiddenForwardSpeed(LivingEntity rider) {
+		float forwardSpeed = rider.forwardSpeed * .4f;
+		if (forwardSpeed <= 0.f) {
+			forwardSpeed *= .25f;
+		}
+		return forwardSpeed;
+	}
+
 	@Override
 	public boolean isPushable() {
 		return !this.hasPassengers();
 	}
 
+	@Override
+	protected void tickCramming() {
+		if (this.hotStore == null || !(this.getWorld() instanceof ServerWorld world)) {
+			super.tickCramming();
+			return;
+		}
+
+		// A resting snail which touched nothing has nothing to push, anything moving into it pushes it instead.
+		if (!this.crowded && this.getX() == this.prevX && this.getY() == this.prevY && this.getZ() == this.prevZ)
+			return;
+
+		var box = this.getBoundingBox();
+		var canBePushed = EntityPredicates.canBePushedBy(this);
+		var snails = this.crowdingSnails;
+
+		var crowding = LovelySnailsServerWorld.get(world).lovely_snails$getCrowding();
+		crowding.collectSnails(box, this, snails);
+		int snailCount = 0;
+		for (int i = 0; i < snails.size(); i++) {
+			var snail = snails.get(i);
+
+			if (canBePushed.test(snail)) {
+				snails.set(snailCount++, snail);
+			}
+		}
+
+		// Snails are skipped by the world query as the crowding grid already found them,
+		// and the query itself is skipped when the sections around only hold snails.
+		List<Entity> others = crowding.hasOtherEntities(world, box)
+				? world.getOtherEntities(this, box, entity -> !(entity instanceof SnailEntity) && canBePushed.test(entity))
+				: List.of();
+		this.crowded = snailCount != 0 || !others.isEmpty();
+
+		int maxCramming = world.getGameRules().getInt(GameRules.MAX_ENTITY_CRAMMING);
+		if (maxCramming > 0 && snailCount + others.size() > maxCramming - 1 && this.random.nextInt(4) == 0) {
+			int notRiding = 0;
+
+			for (int i = 0; i < snailCount; i++) {
+				if (!snails.get(i).hasVehicle()) notRiding++;
+			}
+			for (var entity : others) {
+				if (!entity.hasVehicle()) notRiding++;
+			}
+
+			if (notRiding > maxCramming - 1) {
+				this.damage(this.getDamageSources().cramming(), 6.f);
+			}
+		}
+
+		// Pushes are symmetric, in a packed pen the snails which aren't pushed by this one push it on their own tick.
+		for (int i = 0; i < Math.min(snailCount, MAX_SNAIL_PUSHES); i++) {
+			this.pushAway(snails.get(i));
+		}
+		for (var entity : others) {
+			this.pushAway(entity);
+		}
+
+		snails.clear();
+	}
+
 	@Override
 	protected boolean isImmobile() {
 		return super.isImmobile() && this.hasPassengers() && this.isSaddled() && this.canUseSnail(this.getPrimaryPassenger());
@@ -863,6 +1473,30 @@ public class SnailEntity extends TameableEntity implements InventoryChangedListe
 
 	/* Animal Stuff */
 
+	@Override
+	public void lovePlayer(@Nullable PlayerEntity player) {
+		super.lovePlayer(player);
+		this.registerInLove();
+	}
+
+	@Override
+	public void setLoveTicks(int loveTicks) {
+		super.setLoveTicks(loveTicks);
+
+		if (loveTicks > 0) {
+			this.registerInLove();
+		}
+	}
+
+	/**
+	 * Adds this snail to the love registry of its world, this is also called when a snail which is in love gets loaded.
+	 */
+	public void registerInLove() {
+		if (this.getWorld() instanceof ServerWorld world) {
+			LovelySnailsServerWorld.get(world).lovely_snails$getLoveRegistry().add(this);
+		}
+	}
+
 	@Override
 	public PassiveEntity createChild(ServerWorld world, PassiveEntity otherParent) {
 		var child = LovelySnailsRegistry.SNAIL_ENTITY_TYPE.create(world);
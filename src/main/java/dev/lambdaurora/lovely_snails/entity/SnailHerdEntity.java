@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity;
+
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.listener.ClientPlayPacketListener;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a herd of idle snails collapsed into a single entity while no player is around.
+ * <p>
+ * The herd holds the saved data of its members and only checks from time to time whether a player came close,
+ * in which case the snails are materialized back at the position they were collapsed at.
+ * The members aren't simulated while in the herd, they are only stored,
+ * and catch up the time they spent in the herd on their first tick once materialized.
+ * A herd removed for any other reason than being unloaded, like a kill command, materializes its members first
+ * so they are never lost with it.
+ * <p>
+ * Like markers, herds are never sent to clients.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailHerdEntity extends Entity {
+	/**
+	 * The distance at which a player makes the herd materialize its members.
+	 */
+	public static final double MATERIALIZE_DISTANCE = 24.0;
+	private static final int PLAYER_CHECK_INTERVAL = 20;
+
+	private final List<NbtCompound> members = new ArrayList<>();
+
+	public SnailHerdEntity(EntityType<?> type, World world) {
+		super(type, world);
+		this.noClip = true;
+	}
+
+	/**
+	 * Collapses the given snails into this herd, the snail entities are removed from the world.
+	 *
+	 * @param snails the snails to add to this herd
+	 */
+	public void collapse(List<SnailEntity> snails) {
+		for (var snail : snails) {
+			var nbt = new NbtCompound();
+
+			if (snail.saveSelfNbt(nbt)) {
+				this.members.add(nbt);
+				snail.discard();
+			}
+		}
+	}
+
+	/**
+	 * Materializes back the members of this herd and removes the herd.
+	 *
+	 * @param world the world this herd is in
+	 */
+	public void materialize(ServerWorld world) {
+		this.spawnMembers(world);
+		this.discard();
+	}
+
+	private void spawnMembers(ServerWorld world) {
+		for (var nbt : this.members) {
+			EntityType.getEntityFromNbt(nbt, world).ifPresent(world::spawnEntity);
+		}
+
+		this.members.clear();
+	}
+
+	@Override
+	public void remove(RemovalReason reason) {
+		if (reason.shouldDestroy() && this.getWorld() instanceof ServerWorld world) {
+			this.spawnMembers(world);
+		}
+
+		super.remove(reason);
+	}
+
+	@Override
+	public void tick() {
+		if (this.getWorld() instanceof ServerWorld world && this.age % PLAYER_CHECK_INTERVAL == 0) {
+			if (this.members.isEmpty()) {
+				this.discard();
+			} else if (LovelySnailsServerWorld.get(world).lovely_snails$getPlayerCache()
+					.isPlayerInRange(this.getX(), this.getY(), this.getZ(), MATERIALIZE_DISTANCE)) {
+				this.materialize(world);
+			}
+		}
+	}
+
+	@Override
+	protected void initDataTracker() {
+	}
+
+	@Override
+	protected void readCustomDataFromNbt(NbtCompound nbt) {
+		this.members.clear();
+
+		var members = nbt.getList("members", NbtElement.COMPOUND_TYPE);
+		for (int i = 0; i < members.size(); i++) {
+			this.members.add(members.getCompound(i));
+		}
+	}
+
+	@Override
+	protected void writeCustomDataToNbt(NbtCompound nbt) {
+		var members = new NbtList();
+		members.addAll(this.members);
+		nbt.put("members", members);
+	}
+
+	@Override
+	public Packet<ClientPlayPacketListener> createSpawnPacket() {
+		throw new IllegalStateException("Snail herds should never be sent.");
+	}
+
+	@Override
+	protected boolean canAddPassenger(Entity passenger) {
+		return false;
+	}
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity.ai;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.mixin.EntityNavigationAccessor;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import dev.lambdaurora.lovely_snails.world.ChunkRevisions;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityDimensions;
+import net.minecraft.entity.EntityPose;
+import net.minecraft.entity.ai.pathing.MobNavigation;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNodeNavigator;
+import net.minecraft.entity.ai.pathing.PathNodeType;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.profiler.DummyProfiler;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.World;
+import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.chunk.ChunkCache;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.PalettedContainer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents the snail navigation, which searches paths on worker threads.
+ * <p>
+ * A path request copies the block states around the snail and the pathfinding state of the snail on the server thread,
+ * and the search runs on a small executor of its own, only reading these copies.
+ * While the search is running, the snail keeps following its current path, and the navigation isn't considered idle.
+ * Once the search is done, the path is applied on the next navigation tick,
+ * unless a block changed in the searched region in the meantime, in which case the result is dropped.
+ * <p>
+ * A request for other targets replaces the pending one, so goals following a moving target should only ask for a new path
+ * every {@value #RESUBMIT_INTERVAL} ticks. A pending request which isn't followed yet is dropped
+ * if it isn't asked for again within {@value #RESUBMIT_INTERVAL} ticks.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailNavigation extends MobNavigation {
+	/**
+	 * The amount of ticks between two path requests of goals following a moving target,
+	 * and the amount of ticks a pending request which isn't followed is kept for without being asked for again.
+	 */
+	public static final int RESUBMIT_INTERVAL = 10;
+	private static final int MAX_QUEUED_SEARCHES = 256;
+	private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+	private final int maxVisitedNodes;
+	private @Nullable PathRequest pending;
+	/**
+	 * A detached mob no longer used by any search, reused by the next request.
+	 */
+	private @Nullable DetachedMob spareMob;
+
+	public SnailNavigation(SnailEntity snail, World world) {
+		super(snail, world);
+		this.maxVisitedNodes = MathHelper.floor(snail.getAttributeBaseValue(EntityAttributes.GENERIC_FOLLOW_RANGE) * 16.0);
+	}
+
+	private static ThreadPoolExecutor createExecutor() {
+		int threads = MathHelper.clamp(Runtime.getRuntime().availableProcessors() / 4, 1, 2);
+		var threadCount = new AtomicInteger();
+		var executor = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_SEARCHES),
+				runnable -> {
+					var thread = new Thread(runnable, "Lovely Snails Pathfinding #" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	@Override
+	protected PathNodeNavigator createPathNodeNavigator(int range) {
+		this.nodeMaker = new SnailPathNodeMaker();
+		this.nodeMaker.setCanEnterOpenDoors(true);
+		return new PathNodeNavigator(this.nodeMaker, range);
+	}
+
+	@Override
+	protected @Nullable Path findPathToAny(Set<BlockPos> positions, int range, boolean useHeadPos, int distance, float followRange) {
+		if (!(this.world instanceof ServerWorld serverWorld)) {
+			return super.findPathToAny(positions, range, useHeadPos, distance, followRange);
+		}
+
+		if (positions.isEmpty() || this.entity.getY() < this.world.getBottomY() || !this.isAtValidPosition()) {
+			return null;
+		}
+
+		if (this.currentPath != null && !this.currentPath.isFinished() && positions.contains(this.getTargetPos())) {
+			this.cancelPending();
+			return this.currentPath;
+		}
+
+		if (this.pending != null) {
+			if (this.pending.matches(positions, distance)) {
+				this.pending.lastAskAge = this.entity.age;
+				return this.pending.future.isDone() ? this.takePending() : null;
+			}
+
+			// The search of another caller must never be handed over to this one.
+			this.cancelPending();
+		}
+
+		var origin = useHeadPos ? this.entity.getBlockPos().up() : this.entity.getBlockPos();
+		// Searches rarely go further than the targets, so the copied region is limited around them.
+		int targetDistance = 0;
+		for (var target : positions) {
+			targetDistance = Math.max(targetDistance, target.getManhattanDistance(origin));
+		}
+		int radius = Math.min((int) (followRange + range), targetDistance + range * 2);
+
+		var revisions = LovelySnailsServerWorld.get(serverWorld).lovely_snails$getChunkRevisions();
+		var region = new PathfindingRegion(this.world, origin.add(-radius, -radius, -radius), origin.add(radius, radius, radius));
+		var mob = this.spareMob != null ? this.spareMob : new DetachedMob(this.world);
+		this.spareMob = null;
+		mob.copyFrom(this.entity);
+
+		boolean canEnterOpenDoors = this.nodeMaker.canEnterOpenDoors();
+		boolean canOpenDoors = this.nodeMaker.canOpenDoors();
+		boolean canSwim = this.nodeMaker.canSwim();
+		var targets = Set.copyOf(positions);
+		float rangeMultiplier = ((EntityNavigationAccessor) this).lovely_snails$getRangeMultiplier();
+
+		CompletableFuture<Path> future;
+		try {
+			future = CompletableFuture.supplyAsync(() -> {
+				var pathfinder = WorkerPathfinder.get(this.maxVisitedNodes);
+				pathfinder.nodeMaker.setCanEnterOpenDoors(canEnterOpenDoors);
+				pathfinder.nodeMaker.setCanOpenDoors(canOpenDoors);
+				pathfinder.nodeMaker.setCanSwim(canSwim);
+				return pathfinder.navigator.findPathToAny(region, mob, targets, followRange, distance, rangeMultiplier);
+			}, EXECUTOR);
+		} catch (RejectedExecutionException e) {
+			// Too many searches are queued, this one is tried again later.
+			this.spareMob = mob;
+			return null;
+		}
+
+		this.pending = new PathRequest(targets, distance, (origin.getX() - radius) >> 4, (origin.getZ() - radius) >> 4,
+				(origin.getX() + radius) >> 4, (origin.getZ() + radius) >> 4, revisions.getRevision(), mob, future);
+		this.pending.lastAskAge = this.entity.age;
+		return null;
+	}
+
+	/**
+	 * Takes the result of the pending request, if it's still valid.
+	 *
+	 * @return the path, or {@code null} if there is none or if the searched region changed
+	 */
+	private @Nullable Path takePending() {
+		var request = this.pending;
+		this.pending = null;
+		// The search is over, nothing else reads its mob.
+		this.spareMob = request.mob;
+
+		Path path;
+		try {
+			path = request.future.getNow(null);
+		} catch (RuntimeException e) {
+			// The search failed, it will be requested again.
+			return null;
+		}
+
+		var revisions = LovelySnailsServerWorld.get((ServerWorld) this.world).lovely_snails$getChunkRevisions();
+		if (path == null || !request.isUnchanged(revisions)) {
+			return null;
+		}
+
+		if (path.getTarget() != null) {
+			((EntityNavigationAccessor) this).lovely_snails$setCurrentTarget(path.getTarget());
+			((EntityNavigationAccessor) this).lovely_snails$setCurrentDistance(request.distance);
+			this.resetRangeMultiplier();
+		}
+
+		return path;
+	}
+
+	private void cancelPending() {
+		if (this.pending != null) {
+			// The mob of a cancelled request may still be read by its search, so it's never reused.
+			this.pending.future.cancel(false);
+			this.pending = null;
+		}
+	}
+
+	@Override
+	public boolean startMovingTo(Entity entity, double speed) {
+		var path = this.findPathTo(entity, 1);
+
+		// Unlike the vanilla method, a pending search is still followed once it's ready.
+		if (path == null && this.pending == null) {
+			return false;
+		}
+
+		return this.startMovingAlong(path, speed);
+	}
+
+	@Override
+	public boolean startMovingAlong(@Nullable Path path, double speed) {
+		// Only the caller which just asked for the pending search may follow it.
+		if (path == null && this.pending != null && this.pending.lastAskAge == this.entity.age) {
+			// Keeps the current movement until the pending path is ready.
+			this.pending.speed = speed;
+			return true;
+		}
+
+		return super.startMovingAlong(path, speed);
+	}
+
+	@Override
+	public void tick() {
+		if (this.pending != null && this.pending.speed == 0 && this.entity.age - this.pending.lastAskAge > RESUBMIT_INTERVAL) {
+			// Nobody follows this search nor asks for it anymore.
+			this.cancelPending();
+		}
+
+		if (this.pending != null && this.pending.speed > 0 && this.pending.future.isDone()) {
+			double speed = this.pending.speed;
+			var path = this.takePending();
+
+			if (path != null) {
+				super.startMovingAlong(path, speed);
+			}
+		}
+
+		if (this.currentPath == null && this.pending != null) {
+			return;
+		}
+
+		super.tick();
+	}
+
+	@Override
+	public boolean isIdle() {
+		return super.isIdle() && this.pending == null;
+	}
+
+	@Override
+	public void stop() {
+		this.cancelPending();
+		super.stop();
+	}
+
+	/**
+	 * Represents a path search running on a worker thread.
+	 */
+	private static final class PathRequest {
+		private final Set<BlockPos> targets;
+		private final int distance;
+		private final int minChunkX;
+		private final int minChunkZ;
+		private final int maxChunkX;
+		private final int maxChunkZ;
+		private final long revision;
+		private final DetachedMob mob;
+		private final CompletableFuture<Path> future;
+		/**
+		 * The speed to follow the path at once it's ready, or {@code 0} if nobody asked to follow it yet.
+		 */
+		private double speed;
+		/**
+		 * The age of the snail when this request got last asked for.
+		 */
+		private int lastAskAge;
+
+		private PathRequest(Set<BlockPos> targets, int distance, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+				long revision, DetachedMob mob, CompletableFuture<Path> future) {
+			this.targets = targets;
+			this.distance = distance;
+			this.minChunkX = minChunkX;
+			this.minChunkZ = minChunkZ;
+			this.maxChunkX = maxChunkX;
+			this.maxChunkZ = maxChunkZ;
+			this.revision = revision;
+			this.mob = mob;
+			this.future = future;
+		}
+
+		private boolean matches(Set<BlockPos> targets, int distance) {
+			return this.distance == distance && this.targets.equals(targets);
+		}
+
+		private boolean isUnchanged(ChunkRevisions revisions) {
+			return revisions.isUnchangedSince(this.minChunkX, this.minChunkZ, this.maxChunkX, this.maxChunkZ, this.revision);
+		}
+	}
+
+	/**
+	 * Holds the node maker and navigator of a worker thread, which are reused by all the searches running on that thread.
+	 */
+	private static final class WorkerPathfinder {
+		private static final ThreadLocal<WorkerPathfinder> PATHFINDERS = new ThreadLocal<>();
+
+		private final SnailPathNodeMaker nodeMaker = new SnailPathNodeMaker();
+		private final PathNodeNavigator navigator;
+		private final int maxVisitedNodes;
+
+		private WorkerPathfinder(int maxVisitedNodes) {
+			this.navigator = new PathNodeNavigator(this.nodeMaker, maxVisitedNodes);
+			this.maxVisitedNodes = maxVisitedNodes;
+		}
+
+		private static WorkerPathfinder get(int maxVisitedNodes) {
+			var pathfinder = PATHFINDERS.get();
+
+			if (pathfinder == null || pathfinder.maxVisitedNodes != maxVisitedNodes) {
+				pathfinder = new WorkerPathfinder(maxVisitedNodes);
+				PATHFINDERS.set(pathfinder);
+			}
+
+			return pathfinder;
+		}
+	}
+
+	/**
+	 * Represents a copy of the state of a mob read by the path search, the search never touches the actual mob.
+	 * <p>
+	 * It's never added to the world, and the node maker is free to change its pathfinding penalties during the search.
+	 */
+	private static final class DetachedMob extends MobEntity {
+		private @Nullable EntityDimensions copiedDimensions;
+
+		private DetachedMob(World world) {
+			super(LovelySnailsRegistry.SNAIL_ENTITY_TYPE, world);
+		}
+
+		/**
+		 * Copies the state of the given mob which is read by the path search, this must be called on the server thread.
+		 *
+		 * @param mob the mob to copy
+		 */
+		private void copyFrom(MobEntity mob) {
+			this.copiedDimensions = mob.getDimensions(mob.getPose());
+			this.calculateDimensions();
+			this.setPosition(mob.getX(), mob.getY(), mob.getZ());
+			this.setOnGround(mob.isOnGround());
+			this.touchingWater = mob.isTouchingWater();
+			this.setStepHeight(mob.getStepHeight());
+
+			for (var type : PathNodeType.values()) {
+				this.setPathfindingPenalty(type, mob.getPathfindingPenalty(type));
+			}
+		}
+
+		@Override
+		public EntityDimensions getDimensions(EntityPose pose) {
+			// Called by the entity constructor before the dimensions got copied.
+			return this.copiedDimensions != null ? this.copiedDimensions : super.getDimensions(pose);
+		}
+	}
+
+	/**
+	 * Represents an immutable copy of the block states of a region, read by a path search off the server thread.
+	 * <p>
+	 * The block state containers of the chunk sections are copied on the server thread,
+	 * blocks outside the copied region or in unloaded chunks read as void air.
+	 */
+	private static final class PathfindingRegion extends ChunkCache {
+		private static final BlockState VOID_AIR = Blocks.VOID_AIR.getDefaultState();
+		private static final BlockState AIR = Blocks.AIR.getDefaultState();
+
+		private final int minChunkX;
+		private final int minChunkZ;
+		private final int sizeX;
+		private final int sizeZ;
+		private final int minSection;
+		private final int sectionCount;
+		private final @Nullable PalettedContainer<BlockState>[] sections;
+		private final boolean[] loadedChunks;
+		private final WorldBorder worldBorder = new WorldBorder();
+
+		@SuppressWarnings("unchecked")
+		private PathfindingRegion(World world, BlockPos minPos, BlockPos maxPos) {
+			// Only the copied sections are read, the chunk cache itself doesn't need to reference the region chunks.
+			super(world, minPos, minPos);
+			this.minChunkX = ChunkSectionPos.getSectionCoord(minPos.getX());
+			this.minChunkZ = ChunkSectionPos.getSectionCoord(minPos.getZ());
+			this.sizeX = ChunkSectionPos.getSectionCoord(maxPos.getX()) - this.minChunkX + 1;
+			this.sizeZ = ChunkSectionPos.getSectionCoord(maxPos.getZ()) - this.minChunkZ + 1;
+			this.minSection = MathHelper.clamp(world.getSectionIndex(minPos.getY()), 0, world.countVerticalSections() - 1);
+			this.sectionCount = MathHelper.clamp(world.getSectionIndex(maxPos.getY()), 0, world.countVerticalSections() - 1)
+					- this.minSection + 1;
+			this.sections = new PalettedContainer[this.sizeX * this.sizeZ * this.sectionCount];
+			this.loadedChunks = new boolean[this.sizeX * this.sizeZ];
+			this.worldBorder.load(world.getWorldBorder().write());
+
+			for (int x = 0; x < this.sizeX; x++) {
+				for (int z = 0; z < this.sizeZ; z++) {
+					var chunk = world.getChunk(this.minChunkX + x, this.minChunkZ + z, ChunkStatus.FULL, false);
+					if (chunk == null)
+						continue;
+
+					this.loadedChunks[x * this.sizeZ + z] = true;
+					var chunkSections = chunk.getSectionArray();
+
+					for (int section = 0; section < this.sectionCount; section++) {
+						var chunkSection = chunkSections[this.minSection + section];
+
+						if (!chunkSection.isEmpty()) {
+							this.sections[(x * this.sizeZ + z) * this.sectionCount + section] = chunkSection.getBlockStateContainer().copy();
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		public BlockState getBlockState(BlockPos pos) {
+			if (this.isOutOfHeightLimit(pos))
+				return AIR;
+
+			int x = ChunkSectionPos.getSectionCoord(pos.getX()) - this.minChunkX;
+			int z = ChunkSectionPos.getSectionCoord(pos.getZ()) - this.minChunkZ;
+			int section = this.getSectionIndex(pos.getY()) - this.minSection;
+
+			if (x < 0 || x >= this.sizeX || z < 0 || z >= this.sizeZ || section < 0 || section >= this.sectionCount
+					|| !this.loadedChunks[x * this.sizeZ + z])
+				return VOID_AIR;
+
+			var states = this.sections[(x * this.sizeZ + z) * this.sectionCount + section];
+			return states == null ? AIR : states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+		}
+
+		@Override
+		public FluidState getFluidState(BlockPos pos) {
+			return this.getBlockState(pos).getFluidState();
+		}
+
+		@Override
+		public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+			return null;
+		}
+
+		@Override
+		public BlockView getChunkAsView(int chunkX, int chunkZ) {
+			// Collision checks read the blocks through the chunks, which must read the copy as well.
+			return this;
+		}
+
+		@Override
+		public WorldBorder getWorldBorder() {
+			return this.worldBorder;
+		}
+
+		@Override
+		public Profiler getProfiler() {
+			return DummyProfiler.INSTANCE;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity.ai;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.ai.pathing.LandPathNodeMaker;
+import net.minecraft.entity.ai.pathing.PathNodeType;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+
+/**
+ * Represents the snail path node maker, which caches the node types of block states.
+ * <p>
+ * The node type of a block and the danger it represents for its neighbors only depend on its state,
+ * except for blocks with dynamic or offset shapes, so they are cached per block state ID.
+ * The caches are shared between all snails and cleared when tags are reloaded.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailPathNodeMaker extends LandPathNodeMaker {
+	private static final PathNodeType[] NODE_TYPES = PathNodeType.values();
+	private static final byte UNKNOWN = 0;
+	private static final byte POSITION_DEPENDENT = -1;
+
+	// Concurrent searches may fill the same entries, they always compute the same value.
+	private static volatile byte[] commonNodeTypes = new byte[0];
+	private static volatile byte[] neighborNodeTypes = new byte[0];
+
+	private final BlockPos.Mutable nodePos = new BlockPos.Mutable();
+
+	/**
+	 * Clears the cached node types.
+	 */
+	public static void invalidateCache() {
+		commonNodeTypes = new byte[Block.STATE_IDS.size()];
+		neighborNodeTypes = new byte[Block.STATE_IDS.size()];
+	}
+
+	@Override
+	public PathNodeType getDefaultNodeType(BlockView world, int x, int y, int z) {
+		var pos = this.nodePos.set(x, y, z);
+		var type = getCachedCommonNodeType(world, pos);
+
+		if (type == PathNodeType.OPEN && y >= world.getBottomY() + 1) {
+			var below = getCachedCommonNodeType(world, pos.set(x, y - 1, z));
+			type = below != PathNodeType.WALKABLE && below != PathNodeType.OPEN && below != PathNodeType.WATER && below != PathNodeType.LAVA
+					? PathNodeType.WALKABLE : PathNodeType.OPEN;
+
+			switch (below) {
+				case DAMAGE_FIRE -> type = PathNodeType.DAMAGE_FIRE;
+				case DAMAGE_OTHER -> type = PathNodeType.DAMAGE_OTHER;
+				case STICKY_HONEY -> type = PathNodeType.STICKY_HONEY;
+				case POWDER_SNOW -> type = PathNodeType.DANGER_POWDER_SNOW;
+				case DAMAGE_CAUTIOUS -> type = PathNodeType.DAMAGE_CAUTIOUS;
+				default -> {
+				}
+			}
+		}
+
+		if (type == PathNodeType.WALKABLE) {
+			type = getCachedNeighborNodeType(world, pos.set(x, y, z), type);
+		}
+
+		return type;
+	}
+
+	private static PathNodeType getCachedCommonNodeType(BlockView world, BlockPos pos) {
+		var state = world.getBlockState(pos);
+		var cache = getCommonNodeTypes();
+		int id = Block.STATE_IDS.getRawId(state);
+		byte cached = cache[id];
+
+		if (cached > UNKNOWN) {
+			return NODE_TYPES[cached - 1];
+		}
+
+		var type = getCommonNodeType(world, pos);
+		if (cached == UNKNOWN) {
+			cache[id] = isPositionDependent(state) ? POSITION_DEPENDENT : (byte) (type.ordinal() + 1);
+		}
+
+		return type;
+	}
+
+	/**
+	 * Same as {@link LandPathNodeMaker#getNodeTypeFromNeighbors(BlockView, BlockPos.Mutable, PathNodeType)},
+	 * with the danger of each neighbor state cached.
+	 */
+	private static PathNodeType getCachedNeighborNodeType(BlockView world, BlockPos.Mutable pos, PathNodeType type) {
+		int x = pos.getX();
+		int y = pos.getY();
+		int z = pos.getZ();
+		var cache = getNeighborNodeTypes();
+
+		for (int offsetX = -1; offsetX <= 1; offsetX++) {
+			for (int offsetY = -1; offsetY <= 1; offsetY++) {
+				for (int offsetZ = -1; offsetZ <= 1; offsetZ++) {
+					if (offsetX == 0 && offsetZ == 0)
+						continue;
+
+					var state = world.getBlockState(pos.set(x + offsetX, y + offsetY, z + offsetZ));
+					int id = Block.STATE_IDS.getRawId(state);
+					byte cached = cache[id];
+
+					if (cached == UNKNOWN) {
+						cached = (byte) (getNeighborNodeType(state).ordinal() + 1);
+						cache[id] = cached;
+					}
+
+					var neighborType = NODE_TYPES[cached - 1];
+					if (neighborType != PathNodeType.OPEN) {
+						return neighborType;
+					}
+				}
+			}
+		}
+
+		return type;
+	}
+
+	/**
+	 * {@return the type of danger the given state represents for its neighbors, or {@link PathNodeType#OPEN} if it's harmless}
+	 *
+	 * @param state the block state
+	 */
+	private static PathNodeType getNeighborNodeType(BlockState state) {
+		if (state.isOf(Blocks.CACTUS) || state.isOf(Blocks.SWEET_BERRY_BUSH)) {
+			return PathNodeType.DANGER_OTHER;
+		} else if (inflictsFireDamage(state)) {
+			return PathNodeType.DANGER_FIRE;
+		} else if (state.getFluidState().isIn(FluidTags.WATER)) {
+			return PathNodeType.WATER_BORDER;
+		} else if (state.isOf(Blocks.WITHER_ROSE) || state.isOf(Blocks.POINTED_DRIPSTONE)) {
+			return PathNodeType.DAMAGE_CAUTIOUS;
+		}
+
+		return PathNodeType.OPEN;
+	}
+
+	private static boolean isPositionDependent(BlockState state) {
+		return state.getBlock().hasDynamicBounds() || state.hasModelOffset();
+	}
+
+	private static byte[] getCommonNodeTypes() {
+		if (commonNodeTypes.length != Block.STATE_IDS.size()) {
+			invalidateCache();
+		}
+
+		return commonNodeTypes;
+	}
+
+	private static byte[] getNeighborNodeTypes() {
+		if (neighborNodeTypes.length != Block.STATE_IDS.size()) {
+			invalidateCache();
+		}
+
+		return neighborNodeTypes;
+	}
+}
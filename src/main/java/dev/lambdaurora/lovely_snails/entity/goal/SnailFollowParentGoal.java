@@ -19,13 +19,14 @@ package dev.lambdaurora.lovely_snails.entity.goal;
 
 import dev.lambdaurora.lovely_snails.entity.SnailEntity;
 import net.minecraft.entity.ai.goal.Goal;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Modified {@link net.minecraft.entity.ai.goal.FollowParentGoal},
  * which uses a {@link SnailEntity#isBaby()} instead of {@link net.minecraft.entity.passive.AnimalEntity#getBreedingAge()}.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class SnailFollowParentGoal extends Goal {
@@ -44,6 +45,11 @@ public class SnailFollowParentGoal extends Goal {
 		if (this.self.getBreedingAge() >= 0) {
 			return false;
 		} else {
+			var senses = this.self.getSenses();
+			if (senses != null) {
+				return this.tryFollow(senses.getNearestAdult(this.self));
+			}
+
 			var closeSnails = this.self.getWorld().getNonSpectatingEntities(SnailEntity.class,
 					this.self.getBoundingBox().expand(8.0, 4.0, 8.0)
 			);
@@ -60,14 +66,18 @@ public class SnailFollowParentGoal extends Goal {
 				}
 			}
 
-			if (closestParent == null) {
-				return false;
-			} else if (closestParentDistance < 9.0) {
-				return false;
-			} else {
-				this.parent = closestParent;
-				return true;
-			}
+			return this.tryFollow(closestParent);
+		}
+	}
+
+	private boolean tryFollow(@Nullable SnailEntity closestParent) {
+		if (closestParent == null) {
+			return false;
+		} else if (this.self.squaredDistanceTo(closestParent) < 9.0) {
+			return false;
+		} else {
+			this.parent = closestParent;
+			return true;
 		}
 	}
 
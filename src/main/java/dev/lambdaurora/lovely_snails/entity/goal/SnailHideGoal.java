@@ -18,6 +18,7 @@
 package dev.lambdaurora.lovely_snails.entity.goal;
 
 import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.world.SnailSenses;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.HostileEntity;
 import net.minecraft.predicate.entity.EntityPredicates;
@@ -26,26 +27,45 @@ import java.util.EnumSet;
 
 /**
  * Makes the snail hides if it senses danger nearby.
+ * <p>
+ * The snail hides once danger enters its vital space, but only gets out of its shell once the danger left a wider area
+ * and it has been hidden for a minimum duration, so mobs pacing around the edge of the vital space don't make it flap.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public class SnailHideGoal extends Goal {
 	private final SnailEntity snail;
 	private final double vitalSpaceDistance;
+	private final double safeDistance;
+	private final int minHideTicks;
+	private int hideStartAge;
 
-	public SnailHideGoal(SnailEntity snail, double distance) {
+	/**
+	 * @param snail the snail
+	 * @param distance the distance at which danger makes the snail hide
+	 * @param safeDistance the distance danger has to leave before the snail stops hiding
+	 * @param minHideTicks the minimum amount of ticks the snail stays hidden
+	 */
+	public SnailHideGoal(SnailEntity snail, double distance, double safeDistance, int minHideTicks) {
 		this.snail = snail;
 		this.vitalSpaceDistance = distance;
+		this.safeDistance = Math.max(distance, safeDistance);
+		this.minHideTicks = minHideTicks;
 
 		this.setControls(EnumSet.of(Control.JUMP, Control.MOVE, Control.LOOK));
 	}
 
-	private boolean isThereScaryEntitiesAround() {
+	private boolean isThereScaryEntitiesAround(double distance) {
+		var senses = this.snail.getSenses();
+		if (senses != null && distance <= SnailSenses.HOSTILE_RANGE) {
+			return senses.isHostileWithin(this.snail, distance);
+		}
+
 		var scaryEntities = this.snail.getWorld().getOtherEntities(
 				this.snail,
-				this.snail.getBoundingBox().expand(this.vitalSpaceDistance, 3, this.vitalSpaceDistance),
+				this.snail.getBoundingBox().expand(distance, 3, distance),
 				EntityPredicates.EXCEPT_CREATIVE_OR_SPECTATOR.and(entity -> entity instanceof HostileEntity)
 		);
 		return !scaryEntities.isEmpty();
@@ -53,16 +73,18 @@ public class SnailHideGoal extends Goal {
 
 	@Override
 	public boolean canStart() {
-		return this.snail.getAttacker() != null || this.isThereScaryEntitiesAround();
+		return this.snail.getAttacker() != null || this.isThereScaryEntitiesAround(this.vitalSpaceDistance);
 	}
 
 	@Override
 	public boolean shouldContinue() {
-		return this.snail.getAttacker() != null || this.isThereScaryEntitiesAround();
+		return this.snail.age - this.hideStartAge < this.minHideTicks
+				|| this.snail.getAttacker() != null || this.isThereScaryEntitiesAround(this.safeDistance);
 	}
 
 	@Override
 	public void start() {
+		this.hideStartAge = this.snail.age;
 		this.snail.getNavigation().stop();
 		this.snail.setScared(true);
 	}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity.goal;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.GameRules;
+
+/**
+ * Wraps a cosmetic goal so it's evaluated less often the further the snail is from players.
+ * <p>
+ * Snails with a player within {@value #NEAR_DISTANCE} blocks evaluate the goal as usual,
+ * snails with a player within {@value #MID_DISTANCE} blocks evaluate it at most every
+ * {@link LovelySnailsRegistry#SNAIL_GOAL_LOD_MID_INTERVAL} ticks, and other snails at most every
+ * {@link LovelySnailsRegistry#SNAIL_GOAL_LOD_FAR_INTERVAL} ticks. An interval of {@code 0} disables the goal in that tier.
+ * <p>
+ * The tier is only looked up every {@value #TIER_UPDATE_INTERVAL} ticks, so skipping the goal costs no more than a field read.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class SnailLodGoal extends Goal {
+	public static final double NEAR_DISTANCE = 16.0;
+	public static final double MID_DISTANCE = 48.0;
+	public static final int TIER_UPDATE_INTERVAL = 20;
+
+	private final SnailEntity snail;
+	private final Goal goal;
+	private int lastAttemptAge = Integer.MIN_VALUE;
+	private int tierUpdateAge = Integer.MIN_VALUE;
+	private int interval = 1;
+
+	public SnailLodGoal(SnailEntity snail, Goal goal) {
+		this.snail = snail;
+		this.goal = goal;
+		this.setControls(goal.getControls());
+	}
+
+	/**
+	 * {@return the minimum amount of ticks between two evaluations of the wrapped goal, or {@code 0} if it's disabled}
+	 */
+	private int getInterval() {
+		if (this.snail.age - this.tierUpdateAge >= TIER_UPDATE_INTERVAL) {
+			this.tierUpdateAge = this.snail.age;
+			this.interval = this.computeInterval();
+		}
+
+		return this.interval;
+	}
+
+	private int computeInterval() {
+		if (!(this.snail.getWorld() instanceof ServerWorld world))
+			return 1;
+
+		var playerCache = LovelySnailsServerWorld.get(world).lovely_snails$getPlayerCache();
+		double x = this.snail.getX(), y = this.snail.getY(), z = this.snail.getZ();
+		GameRules.Key<GameRules.IntRule> rule;
+
+		if (playerCache.isPlayerInRange(x, y, z, NEAR_DISTANCE)) {
+			return 1;
+		} else if (playerCache.isPlayerInRange(x, y, z, MID_DISTANCE)) {
+			rule = LovelySnailsRegistry.SNAIL_GOAL_LOD_MID_INTERVAL;
+		} else {
+			rule = LovelySnailsRegistry.SNAIL_GOAL_LOD_FAR_INTERVAL;
+		}
+
+		return world.getGameRules().getInt(rule);
+	}
+
+	@Override
+	public boolean canStart() {
+		int interval = this.getInterval();
+
+		if (interval == 0 || this.snail.age - this.lastAttemptAge < interval)
+			return false;
+
+		this.lastAttemptAge = this.snail.age;
+		return this.goal.canStart();
+	}
+
+	@Override
+	public boolean shouldContinue() {
+		return this.goal.shouldContinue() && this.getInterval() != 0;
+	}
+
+	@Override
+	public boolean canStop() {
+		return this.goal.canStop();
+	}
+
+	@Override
+	public void start() {
+		this.goal.start();
+	}
+
+	@Override
+	public void stop() {
+		this.goal.stop();
+	}
+
+	@Override
+	public boolean shouldRunEveryTick() {
+		return this.goal.shouldRunEveryTick();
+	}
+
+	@Override
+	public void tick() {
+		this.goal.tick();
+	}
+
+	@Override
+	public String toString() {
+		return "Lod[" + this.goal + "]";
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity.goal;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import net.minecraft.entity.ai.goal.LookAtEntityGoal;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Modified {@link LookAtEntityGoal} targeting players, which only considers the players close to the snail
+ * using the player cache of the world instead of every player of the world.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see dev.lambdaurora.lovely_snails.world.SnailPlayerCache
+ */
+public class SnailLookAtPlayerGoal extends LookAtEntityGoal {
+	public SnailLookAtPlayerGoal(SnailEntity snail, float range) {
+		super(snail, PlayerEntity.class, range);
+	}
+
+	@Override
+	public boolean canStart() {
+		if (!(this.mob.getWorld() instanceof ServerWorld world)) {
+			return super.canStart();
+		}
+
+		if (this.mob.getRandom().nextFloat() >= this.chance) {
+			return false;
+		}
+
+		// The target predicate does the exact distance check, the cache lookup only needs to cover it.
+		double range = Math.max(this.range, 2.0) + this.mob.getHeight();
+		this.target = LovelySnailsServerWorld.get(world).lovely_snails$getPlayerCache().getClosestPlayer(
+				this.mob.getX(), this.mob.getEyeY(), this.mob.getZ(), range,
+				player -> this.targetPredicate.test(this.mob, player)
+		);
+		return this.target != null;
+	}
+}
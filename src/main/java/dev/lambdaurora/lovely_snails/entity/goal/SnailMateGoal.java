@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.entity.goal;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.entity.ai.SnailNavigation;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.EnumSet;
+
+/**
+ * Modified {@link net.minecraft.entity.ai.goal.AnimalMateGoal},
+ * which looks for a mate among the snails in love of the world instead of scanning every nearby snail.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see dev.lambdaurora.lovely_snails.world.SnailLoveRegistry
+ */
+public class SnailMateGoal extends Goal {
+	private static final double MATE_RANGE = 8.0;
+
+	private final SnailEntity snail;
+	private final ServerWorld world;
+	private final double speed;
+	private SnailEntity mate;
+	private int timer;
+	private int pathDelay;
+
+	public SnailMateGoal(SnailEntity snail, ServerWorld world, double speed) {
+		this.snail = snail;
+		this.world = world;
+		this.speed = speed;
+		this.setControls(EnumSet.of(Control.MOVE, Control.LOOK));
+	}
+
+	@Override
+	public boolean canStart() {
+		if (!this.snail.isInLove()) {
+			return false;
+		} else {
+			this.mate = LovelySnailsServerWorld.get(this.world).lovely_snails$getLoveRegistry().findMate(this.snail, MATE_RANGE);
+			return this.mate != null;
+		}
+	}
+
+	@Override
+	public boolean shouldContinue() {
+		return this.mate.isAlive() && this.mate.isInLove() && this.timer < 60;
+	}
+
+	@Override
+	public void stop() {
+		this.mate = null;
+		this.timer = 0;
+		this.pathDelay = 0;
+	}
+
+	@Override
+	public void tick() {
+		this.snail.getLookControl().lookAt(this.mate, 10.f, this.snail.getMaxLookPitchChange());
+		// Each new target block replaces the path search, so the path to the moving mate is only refreshed periodically.
+		if (--this.pathDelay <= 0) {
+			this.pathDelay = SnailNavigation.RESUBMIT_INTERVAL;
+			this.snail.getNavigation().startMovingTo(this.mate, this.speed);
+		}
+		++this.timer;
+
+		if (this.timer >= this.getTickCount(60) && this.snail.squaredDistanceTo(this.mate) < 9.0) {
+			this.snail.breed(this.world, this.mate);
+		}
+	}
+}
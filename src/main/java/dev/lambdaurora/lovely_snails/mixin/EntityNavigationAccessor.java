@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.mixin;
+
+import net.minecraft.entity.ai.pathing.EntityNavigation;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(EntityNavigation.class)
+public interface EntityNavigationAccessor {
+	@Accessor("currentTarget")
+	void lovely_snails$setCurrentTarget(BlockPos target);
+
+	@Accessor("currentDistance")
+	void lovely_snails$setCurrentDistance(int distance);
+
+	@Accessor("rangeMultiplier")
+	float lovely_snails$getRangeMultiplier();
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.mixin;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.EntityTrackerEntry;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+@Mixin(EntityTrackerEntry.class)
+public class EntityTrackerEntryMixin {
+	@Shadow
+	@Final
+	private Entity entity;
+	@Shadow
+	@Final
+	private int tickInterval;
+
+	@Redirect(
+			method = "tick",
+			at = @At(
+					value = "FIELD",
+					target = "Lnet/minecraft/server/network/EntityTrackerEntry;tickInterval:I"
+			)
+	)
+	private int lovely_snails$getTickInterval(EntityTrackerEntry self) {
+		if (this.entity instanceof SnailEntity snail) {
+			return snail.getTrackingTickInterval();
+		}
+
+		return this.tickInterval;
+	}
+}
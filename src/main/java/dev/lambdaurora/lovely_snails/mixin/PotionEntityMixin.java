@@ -19,15 +19,17 @@ package dev.lambdaurora.lovely_snails.mixin;
 
 import dev.lambdaurora.lovely_snails.entity.SnailEntity;
 import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.projectile.thrown.PotionEntity;
 import net.minecraft.entity.projectile.thrown.ThrownItemEntity;
 import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+import java.util.List;
+import java.util.function.Predicate;
 
 @Mixin(PotionEntity.class)
 public abstract class PotionEntityMixin extends ThrownItemEntity {
@@ -35,18 +37,36 @@ public abstract class PotionEntityMixin extends ThrownItemEntity {
 		super(entityType, world);
 	}
 
-	@Inject(
+	/**
+	 * Widens the query of the entities affected by water to snails, so they are splashed from the same query.
+	 * The owner of the water is resolved once for all the splashed snails.
+	 */
+	@Redirect(
 			method = "applyWaterEffects",
 			at = @At(
 					value = "INVOKE",
 					target = "Lnet/minecraft/world/World;getEntitiesByClass(Ljava/lang/Class;Lnet/minecraft/util/math/Box;Ljava/util/function/Predicate;)Ljava/util/List;"
-			),
-			locals = LocalCapture.CAPTURE_FAILHARD
+			)
 	)
-	private void onWaterSplash(CallbackInfo ci, Box box) {
-		var snails = this.getWorld().getNonSpectatingEntities(SnailEntity.class, box);
-		for (var snail : snails) {
-			snail.onWaterSplashed(this.getOwner());
+	private List<LivingEntity> onWaterSplash(World world, Class<LivingEntity> entityClass, Box box, Predicate<? super LivingEntity> predicate) {
+		var entities = world.getEntitiesByClass(entityClass, box, entity -> entity instanceof SnailEntity || predicate.test(entity));
+		var owner = this.getOwner();
+		int affected = 0;
+
+		for (int i = 0; i < entities.size(); i++) {
+			var entity = entities.get(i);
+
+			if (entity instanceof SnailEntity snail) {
+				snail.onWaterSplashed(owner);
+
+				if (!predicate.test(snail))
+					continue;
+			}
+
+			entities.set(affected++, entity);
 		}
+
+		entities.subList(affected, entities.size()).clear();
+		return entities;
 	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.mixin;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.util.collection.DefaultedList;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.function.Supplier;
+
+@Mixin(ScreenHandler.class)
+public interface ScreenHandlerAccessor {
+	@Accessor("previousTrackedStacks")
+	DefaultedList<ItemStack> lovely_snails$getPreviousTrackedStacks();
+
+	@Invoker("updateTrackedSlot")
+	void lovely_snails$updateTrackedSlot(int slot, ItemStack stack, Supplier<ItemStack> copySupplier);
+
+	@Invoker("checkSlotUpdates")
+	void lovely_snails$checkSlotUpdates(int slot, ItemStack stack, Supplier<ItemStack> copySupplier);
+
+	@Invoker("checkCursorStackUpdates")
+	void lovely_snails$checkCursorStackUpdates();
+}
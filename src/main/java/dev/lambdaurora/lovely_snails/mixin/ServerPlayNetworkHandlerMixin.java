@@ -24,7 +24,10 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ServerPlayNetworkHandler.class)
@@ -38,4 +41,29 @@ public class ServerPlayNetworkHandlerMixin {
 			snail.openInventory(this.player);
 		}
 	}
+
+	// The same constant also contracts the vehicle bounding box for the collision checks, only the "moved wrongly" check is targeted.
+	@ModifyConstant(
+			method = "onVehicleMove",
+			slice = @Slice(
+					from = @At(
+							value = "INVOKE",
+							target = "Lnet/minecraft/entity/Entity;move(Lnet/minecraft/entity/MovementType;Lnet/minecraft/util/math/Vec3d;)V"
+					),
+					to = @At(
+							value = "INVOKE",
+							target = "Lnet/minecraft/entity/Entity;updatePositionAndAngles(DDDFF)V",
+							ordinal = 0
+					)
+			),
+			constant = @Constant(doubleValue = 0.0625, ordinal = 0)
+	)
+	private double lovely_snails$getVehicleMovementTolerance(double tolerance) {
+		// The rider's client predicts the snail movement, small drifts are accepted instead of rubber-banding the snail.
+		if (this.player.getRootVehicle() instanceof SnailEntity) {
+			return SnailEntity.RIDDEN_MOVEMENT_TOLERANCE;
+		}
+
+		return tolerance;
+	}
 }
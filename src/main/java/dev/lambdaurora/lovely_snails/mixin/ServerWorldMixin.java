@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.mixin;
+
+import dev.lambdaurora.lovely_snails.network.SnailStatusBatcher;
+import dev.lambdaurora.lovely_snails.world.ChunkRevisions;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import dev.lambdaurora.lovely_snails.world.SnailClimateCache;
+import dev.lambdaurora.lovely_snails.world.SnailCrowding;
+import dev.lambdaurora.lovely_snails.world.SnailGrowthQueue;
+import dev.lambdaurora.lovely_snails.world.SnailHerdManager;
+import dev.lambdaurora.lovely_snails.world.SnailHotStore;
+import dev.lambdaurora.lovely_snails.world.SnailLoveRegistry;
+import dev.lambdaurora.lovely_snails.world.SnailPlayerCache;
+import dev.lambdaurora.lovely_snails.world.SnailSenses;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerEntityManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.entity.SectionedEntityCache;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerWorld.class)
+public class ServerWorldMixin implements LovelySnailsServerWorld {
+	@Shadow
+	@Final
+	private ServerEntityManager<Entity> entityManager;
+
+	@Unique
+	private final SnailStatusBatcher lovely_snails$statusBatcher = new SnailStatusBatcher();
+	@Unique
+	private final SnailGrowthQueue lovely_snails$growthQueue = new SnailGrowthQueue();
+	@Unique
+	private final SnailHerdManager lovely_snails$herdManager = new SnailHerdManager();
+	@Unique
+	private final SnailHotStore lovely_snails$hotStore = new SnailHotStore();
+	@Unique
+	private final SnailSenses lovely_snails$senses = new SnailSenses();
+	@Unique
+	private final ChunkRevisions lovely_snails$chunkRevisions = new ChunkRevisions();
+	@Unique
+	private final SnailLoveRegistry lovely_snails$loveRegistry = new SnailLoveRegistry();
+	@Unique
+	private final SnailPlayerCache lovely_snails$playerCache = new SnailPlayerCache();
+	@Unique
+	private final SnailCrowding lovely_snails$crowding = new SnailCrowding();
+	@Unique
+	private final SnailClimateCache lovely_snails$climateCache = new SnailClimateCache();
+
+	@Override
+	public SnailStatusBatcher lovely_snails$getStatusBatcher() {
+		return this.lovely_snails$statusBatcher;
+	}
+
+	@Override
+	public SnailGrowthQueue lovely_snails$getGrowthQueue() {
+		return this.lovely_snails$growthQueue;
+	}
+
+	@Override
+	public SnailHerdManager lovely_snails$getHerdManager() {
+		return this.lovely_snails$herdManager;
+	}
+
+	@Override
+	public SnailHotStore lovely_snails$getHotStore() {
+		return this.lovely_snails$hotStore;
+	}
+
+	@Override
+	public SnailSenses lovely_snails$getSenses() {
+		return this.lovely_snails$senses;
+	}
+
+	@Override
+	public ChunkRevisions lovely_snails$getChunkRevisions() {
+		return this.lovely_snails$chunkRevisions;
+	}
+
+	@Override
+	public SnailLoveRegistry lovely_snails$getLoveRegistry() {
+		return this.lovely_snails$loveRegistry;
+	}
+
+	@Override
+	public SnailPlayerCache lovely_snails$getPlayerCache() {
+		return this.lovely_snails$playerCache;
+	}
+
+	@Override
+	public SnailCrowding lovely_snails$getCrowding() {
+		return this.lovely_snails$crowding;
+	}
+
+	@Override
+	public SnailClimateCache lovely_snails$getClimateCache() {
+		return this.lovely_snails$climateCache;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public SectionedEntityCache<Entity> lovely_snails$getEntitySections() {
+		return ((ServerEntityManagerAccessor<Entity>) this.entityManager).lovely_snails$getCache();
+	}
+
+	@Inject(method = "onBlockChanged", at = @At("HEAD"))
+	private void onBlockChange(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+		this.lovely_snails$growthQueue.onBlockChanged(pos);
+		this.lovely_snails$chunkRevisions.onBlockChanged(pos);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.network;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import dev.lambdaurora.lovely_snails.world.LovelySnailsServerWorld;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Collects the snail entity statuses emitted during a world tick and sends them as one payload per player at the end of the tick.
+ * <p>
+ * Each entry of the payload is the entity ID as a VarInt followed by a byte holding the set of statuses to play,
+ * one bit per status.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailStatusBatcher {
+	/**
+	 * The first batched status, the happy particles.
+	 */
+	public static final byte FIRST_STATUS = 8;
+	/**
+	 * The number of batched statuses: happy ({@code 8}), angry ({@code 9}) and blocked growth ({@code 10}).
+	 */
+	public static final int STATUS_BITS = 3;
+
+	private final Reference2ByteMap<SnailEntity> pending = new Reference2ByteOpenHashMap<>();
+
+	/**
+	 * Queues the given status to be sent to the players tracking the snail at the end of the tick.
+	 *
+	 * @param snail the snail
+	 * @param status the status to send, must be a batched status
+	 */
+	public static void sendStatus(SnailEntity snail, byte status) {
+		if (snail.getWorld() instanceof ServerWorld world) {
+			LovelySnailsServerWorld.get(world).lovely_snails$getStatusBatcher().queue(snail, status);
+		}
+	}
+
+	public void queue(SnailEntity snail, byte status) {
+		int bit = 1 << (status - FIRST_STATUS);
+		this.pending.put(snail, (byte) (this.pending.getByte(snail) | bit));
+	}
+
+	/**
+	 * Sends the statuses queued during this tick.
+	 */
+	public void flush() {
+		if (this.pending.isEmpty())
+			return;
+
+		var payloads = new Reference2ObjectOpenHashMap<ServerPlayerEntity, PacketByteBuf>();
+
+		for (var entry : this.pending.reference2ByteEntrySet()) {
+			var snail = entry.getKey();
+			if (snail.isRemoved())
+				continue;
+
+			for (var player : PlayerLookup.tracking(snail)) {
+				var payload = payloads.computeIfAbsent(player, p -> PacketByteBufs.create());
+				payload.writeVarInt(snail.getId());
+				payload.writeByte(entry.getByteValue());
+			}
+		}
+
+		this.pending.clear();
+
+		for (var entry : payloads.entrySet()) {
+			ServerPlayNetworking.send(entry.getKey(), LovelySnailsRegistry.SNAIL_STATUS_BATCH, entry.getValue());
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.network;
+
+import dev.lambdaurora.lovely_snails.screen.SnailScreenHandler;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Throttles the storage page requests of a player before they reach the server thread.
+ * <p>
+ * Each player has a small token bucket, and at most one page switch task is scheduled at a time:
+ * requests received while a task is pending simply replace the page that task will apply.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class StoragePageRequestLimiter {
+	private static final Map<UUID, StoragePageRequestLimiter> LIMITERS = new ConcurrentHashMap<>();
+	private static final int BUCKET_CAPACITY = 4;
+	/**
+	 * One token is given back every server tick.
+	 */
+	private static final long REFILL_INTERVAL = 50_000_000L;
+	private static final long NO_REQUEST = -1L;
+
+	// Guarded by this limiter, as taking a token and swapping the pending request must happen as one step.
+	private long pendingRequest = NO_REQUEST;
+	private int tokens = BUCKET_CAPACITY;
+	private long lastRefill = System.nanoTime();
+
+	private StoragePageRequestLimiter() {}
+
+	public static StoragePageRequestLimiter get(ServerPlayerEntity player) {
+		return LIMITERS.computeIfAbsent(player.getUuid(), uuid -> new StoragePageRequestLimiter());
+	}
+
+	public static void remove(ServerPlayerEntity player) {
+		LIMITERS.remove(player.getUuid());
+	}
+
+	/**
+	 * Submits a storage page request, this is meant to be called from the network thread.
+	 *
+	 * @param server the server
+	 * @param player the player who requested the storage page
+	 * @param syncId the synchronization ID of the screen handler
+	 * @param page the requested storage page
+	 */
+	public void submit(MinecraftServer server, ServerPlayerEntity player, int syncId, int page) {
+		if (!SnailScreenHandler.isValidStoragePage(page))
+			return;
+
+		long request = ((long) syncId << 8) | (page & 0xff);
+		boolean schedule;
+
+		synchronized (this) {
+			schedule = this.pendingRequest == NO_REQUEST;
+
+			// Only a new task costs a token, merging into a pending one is free.
+			if (schedule && !this.tryConsumeToken())
+				return;
+
+			this.pendingRequest = request;
+		}
+
+		if (schedule) {
+			server.execute(() -> this.apply(player));
+		}
+	}
+
+	private void apply(ServerPlayerEntity player) {
+		long request;
+
+		synchronized (this) {
+			request = this.pendingRequest;
+			this.pendingRequest = NO_REQUEST;
+		}
+
+		if (request == NO_REQUEST)
+			return;
+
+		int syncId = (int) (request >> 8);
+		int page = (int) (request & 0xff);
+
+		if (player.currentScreenHandler instanceof SnailScreenHandler snailScreenHandler
+				&& snailScreenHandler.syncId == syncId
+				&& snailScreenHandler.canSelectStoragePage(page)) {
+			snailScreenHandler.setCurrentStoragePage(page);
+		}
+	}
+
+	private boolean tryConsumeToken() {
+		long now = System.nanoTime();
+		long refilled = (now - this.lastRefill) / REFILL_INTERVAL;
+
+		if (refilled > 0) {
+			this.tokens = (int) Math.min(BUCKET_CAPACITY, this.tokens + refilled);
+			this.lastRefill += refilled * REFILL_INTERVAL;
+		}
+
+		if (this.tokens == 0)
+			return false;
+
+		this.tokens--;
+		return true;
+	}
+}
@@ -17,36 +17,54 @@
 
 package dev.lambdaurora.lovely_snails.registry;
 
+import dev.lambdaurora.lovely_snails.block.SnailTerrariumBlock;
+import dev.lambdaurora.lovely_snails.block.SnailTerrariumBlockEntity;
 import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.entity.SnailHerdEntity;
+import dev.lambdaurora.lovely_snails.entity.goal.SnailLodGoal;
 import dev.lambdaurora.lovely_snails.item.SnailSpawnEggItem;
 import dev.lambdaurora.lovely_snails.screen.SnailScreenHandler;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleFactory;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleRegistry;
 import net.fabricmc.fabric.api.item.v1.FabricItemSettings;
+import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
+import net.fabricmc.fabric.api.object.builder.v1.block.FabricBlockSettings;
+import net.fabricmc.fabric.api.object.builder.v1.block.entity.FabricBlockEntityTypeBuilder;
 import net.fabricmc.fabric.api.object.builder.v1.entity.FabricEntityTypeBuilder;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerType;
 import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.EntityDimensions;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.SpawnGroup;
 import net.minecraft.entity.SpawnRestriction;
+import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroups;
 import net.minecraft.item.SpawnEggItem;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.tag.TagKey;
 import net.minecraft.screen.ScreenHandlerType;
+import net.minecraft.server.world.ChunkTicketType;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.biome.Biome;
 
+import java.util.Comparator;
+
 import static dev.lambdaurora.lovely_snails.LovelySnails.id;
 
 /**
  * Represents the Lovely Snails' registry.
  *
  * @author LambdAurora
- * @version 1.1.1
+ * @version 1.2.0
  * @since 1.0.0
  */
 public final class LovelySnailsRegistry {
@@ -54,9 +72,22 @@ public final class LovelySnailsRegistry {
 		throw new UnsupportedOperationException("Someone tried to instantiate a class only containing static definitions. How?");
 	}
 
+	/* Blocks */
+
+	public static final SnailTerrariumBlock SNAIL_TERRARIUM_BLOCK = Registry.register(Registries.BLOCK, id("snail_terrarium"),
+			new SnailTerrariumBlock(FabricBlockSettings.copyOf(Blocks.GLASS)));
+
+	/* Block entities */
+
+	public static final BlockEntityType<SnailTerrariumBlockEntity> SNAIL_TERRARIUM_BLOCK_ENTITY_TYPE = Registry.register(
+			Registries.BLOCK_ENTITY_TYPE, id("snail_terrarium"),
+			FabricBlockEntityTypeBuilder.create(SnailTerrariumBlockEntity::new, SNAIL_TERRARIUM_BLOCK).build()
+	);
+
 	/* Items */
 
 	public static final SpawnEggItem SNAIL_SPAWN_EGG_ITEM;
+	public static final BlockItem SNAIL_TERRARIUM_ITEM;
 
 	/* Screen handlers */
 
@@ -75,6 +106,13 @@ public final class LovelySnailsRegistry {
 							SnailEntity::canSpawn)
 					.build()
 	);
+	public static final EntityType<SnailHerdEntity> SNAIL_HERD_ENTITY_TYPE = Registry.register(Registries.ENTITY_TYPE, id("snail_herd"),
+			FabricEntityTypeBuilder.create(SpawnGroup.MISC, SnailHerdEntity::new)
+					.dimensions(EntityDimensions.fixed(0.f, 0.f))
+					.trackRangeChunks(0)
+					.disableSummon()
+					.build()
+	);
 
 	/* Sounds */
 
@@ -84,6 +122,42 @@ public final class LovelySnailsRegistry {
 	/* Packet */
 
 	public static final Identifier SNAIL_SET_STORAGE_PAGE = id("snail_set_storage_page");
+	public static final Identifier SNAIL_INVENTORY_DELTA = id("snail_inventory_delta");
+	public static final Identifier SNAIL_STATUS_BATCH = id("snail_status_batch");
+
+	/* Chunk tickets */
+
+	/**
+	 * The ticket used to load the chunks ahead of ridden snails, it expires by itself if the snail stops refreshing it.
+	 */
+	public static final ChunkTicketType<ChunkPos> SNAIL_PREFETCH_TICKET =
+			ChunkTicketType.create("lovely_snails:snail_prefetch", Comparator.comparingLong(ChunkPos::toLong), 300);
+
+	/* Game rules */
+
+	/**
+	 * The satisfaction baby snails gain every {@value SnailEntity#PASSIVE_GROWTH_INTERVAL} ticks without being fed,
+	 * including the time they spend unloaded.
+	 */
+	public static final GameRules.Key<GameRules.IntRule> SNAIL_PASSIVE_GROWTH = GameRuleRegistry.register("snailPassiveGrowth",
+			GameRules.Category.MOBS, GameRuleFactory.createIntRule(0, 0));
+	/**
+	 * Whether idle tamed snails with no player around are collapsed into herds, disabled by default.
+	 */
+	public static final GameRules.Key<GameRules.BooleanRule> SNAIL_HERDING = GameRuleRegistry.register("snailHerding",
+			GameRules.Category.MOBS, GameRuleFactory.createBooleanRule(false));
+	/**
+	 * The minimum amount of ticks between two evaluations of the cosmetic goals of snails
+	 * with a player within {@value SnailLodGoal#MID_DISTANCE} blocks, {@code 0} disables them.
+	 */
+	public static final GameRules.Key<GameRules.IntRule> SNAIL_GOAL_LOD_MID_INTERVAL = GameRuleRegistry.register("snailGoalLodMidInterval",
+			GameRules.Category.MOBS, GameRuleFactory.createIntRule(4, 0));
+	/**
+	 * The minimum amount of ticks between two evaluations of the cosmetic goals of snails
+	 * with no player within {@value SnailLodGoal#MID_DISTANCE} blocks, {@code 0} disables them.
+	 */
+	public static final GameRules.Key<GameRules.IntRule> SNAIL_GOAL_LOD_FAR_INTERVAL = GameRuleRegistry.register("snailGoalLodFarInterval",
+			GameRules.Category.MOBS, GameRuleFactory.createIntRule(20, 0));
 
 	/* Tags */
 
@@ -107,5 +181,10 @@ public final class LovelySnailsRegistry {
 	static {
 		SNAIL_SPAWN_EGG_ITEM = register("snail_spawn_egg", new SnailSpawnEggItem(SNAIL_ENTITY_TYPE, 0xff36201c, 0xffd58d51,
 				new FabricItemSettings()));
+		SNAIL_TERRARIUM_ITEM = register("snail_terrarium", new BlockItem(SNAIL_TERRARIUM_BLOCK, new FabricItemSettings()));
+
+		ItemGroupEvents.modifyEntriesEvent(ItemGroups.FUNCTIONAL_BLOCKS).register(entries -> {
+			entries.addItem(SNAIL_TERRARIUM_ITEM);
+		});
 	}
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.screen;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.mixin.ScreenHandlerAccessor;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.inventory.InventoryChangedListener;
+import net.minecraft.inventory.SimpleInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Synchronizes a snail inventory to every player viewing it.
+ * <p>
+ * Slot changes are computed once against a shared snapshot and encoded once,
+ * the same encoded delta is then sent to every viewer which doesn't already have these slots,
+ * and the chests of the inventory are only checked once per change for the storage page state of all viewers.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailInventorySync implements InventoryChangedListener {
+	private final SnailEntity snail;
+	private final SimpleInventory inventory;
+	private final List<SnailScreenHandler> viewers = new ArrayList<>();
+	private final ItemStack[] snapshot;
+	private final int[] changedSlots;
+	private boolean dirty;
+	private int chestState;
+
+	public SnailInventorySync(SnailEntity snail, SimpleInventory inventory) {
+		this.snail = snail;
+		this.inventory = inventory;
+		this.snapshot = new ItemStack[inventory.size()];
+		this.changedSlots = new int[inventory.size()];
+		Arrays.fill(this.snapshot, ItemStack.EMPTY);
+
+		inventory.addListener(this);
+	}
+
+	/**
+	 * Adds a viewer of the snail inventory.
+	 *
+	 * @param viewer the screen handler of the viewer
+	 */
+	public void addViewer(SnailScreenHandler viewer) {
+		if (this.viewers.isEmpty()) {
+			// Nobody was watching, the snapshot is outdated.
+			for (int slot = 0; slot < this.snapshot.length; slot++) {
+				this.snapshot[slot] = this.inventory.getStack(slot).copy();
+			}
+			this.dirty = false;
+			this.chestState = this.computeChestState();
+		}
+
+		this.viewers.add(viewer);
+	}
+
+	/**
+	 * Removes a viewer of the snail inventory.
+	 *
+	 * @param viewer the screen handler of the viewer
+	 */
+	public void removeViewer(SnailScreenHandler viewer) {
+		this.viewers.remove(viewer);
+	}
+
+	/**
+	 * Stops tracking the inventory, once the snail replaced it.
+	 */
+	public void unbind() {
+		this.inventory.removeListener(this);
+	}
+
+	/**
+	 * {@return the chests held by the inventory, a bit per chest slot and the ender chest bit}
+	 */
+	private int computeChestState() {
+		int state = 0;
+
+		for (int page = 0; page < SnailScreenHandler.STORAGE_PAGES; page++) {
+			var stack = this.inventory.getStack(SnailEntity.FIRST_CHEST_SLOT + page);
+
+			if (stack.isOf(Items.CHEST)) state |= 1 << page;
+			else if (stack.isOf(Items.ENDER_CHEST)) state |= 1 << SnailScreenHandler.ENDER_CHEST_PAGE;
+		}
+
+		return state;
+	}
+
+	@Override
+	public void onInventoryChanged(Inventory sender) {
+		this.dirty = true;
+
+		if (this.viewers.isEmpty())
+			return;
+
+		// The selected page of the viewers only depends on the chests.
+		int chestState = this.computeChestState();
+		if (chestState != this.chestState) {
+			this.chestState = chestState;
+
+			for (int i = 0; i < this.viewers.size(); i++) {
+				this.viewers.get(i).onInventoryChanged(sender);
+			}
+		}
+	}
+
+	/**
+	 * Sends the slot changes made since the last flush to every viewer.
+	 * <p>
+	 * The slots sent that way are marked as synchronized in each viewer,
+	 * while the regular screen handler synchronization of the viewers doesn't compare the snail slots at all.
+	 */
+	public void flush() {
+		if (!this.dirty || this.viewers.isEmpty())
+			return;
+
+		this.dirty = false;
+
+		int changedCount = 0;
+		for (int slot = 0; slot < this.snapshot.length; slot++) {
+			var stack = this.inventory.getStack(slot);
+
+			if (!ItemStack.areEqual(this.snapshot[slot], stack)) {
+				this.snapshot[slot] = stack.copy();
+				this.changedSlots[changedCount++] = slot;
+			}
+		}
+
+		if (changedCount == 0)
+			return;
+
+		var buffer = PacketByteBufs.create();
+		buffer.writeVarInt(this.snail.getId());
+		buffer.writeVarInt(changedCount);
+		for (int i = 0; i < changedCount; i++) {
+			int slot = this.changedSlots[i];
+			buffer.writeByte(slot);
+			buffer.writeItemStack(this.snapshot[slot]);
+		}
+
+		for (var viewer : this.viewers) {
+			var previousTrackedStacks = ((ScreenHandlerAccessor) viewer).lovely_snails$getPreviousTrackedStacks();
+			// The player who made the change already has the changed slots.
+			boolean upToDate = true;
+
+			for (int i = 0; i < changedCount; i++) {
+				int slot = this.changedSlots[i];
+
+				if (!ItemStack.areEqual(previousTrackedStacks.get(slot), this.snapshot[slot])) {
+					upToDate = false;
+					viewer.setPreviousTrackedSlot(slot, this.snapshot[slot]);
+				}
+			}
+
+			if (!upToDate && viewer.getPlayer() instanceof ServerPlayerEntity player) {
+				ServerPlayNetworking.send(player, LovelySnailsRegistry.SNAIL_INVENTORY_DELTA, PacketByteBufs.copy(buffer));
+			}
+		}
+	}
+}
@@ -17,7 +17,9 @@
 
 package dev.lambdaurora.lovely_snails.screen;
 
+import com.google.common.base.Suppliers;
 import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.mixin.ScreenHandlerAccessor;
 import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -40,14 +42,28 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class SnailScreenHandler extends ScreenHandler implements InventoryChangedListener {
+	/**
+	 * The number of storage pages a snail has, one per chest slot.
+	 */
+	public static final int STORAGE_PAGES = 3;
+	/**
+	 * The page showing the ender chest of the player, available if the snail holds an ender chest.
+	 */
+	public static final int ENDER_CHEST_PAGE = STORAGE_PAGES;
+	private static final int ENDER_CHEST_SIZE = 27;
+
 	private final PlayerEntity player;
 	private final SimpleInventory inventory;
+	private final Inventory enderChestInventory;
 	private final SnailEntity entity;
+	private final @Nullable SnailInventorySync inventorySync;
 	private final ChestSlot[] chestSlots = new ChestSlot[3];
 	private final List<InventoryPageChangeListener> pageChangeListeners = new ArrayList<>();
 	private int currentStoragePage;
+	private int requestedStoragePage = -1;
 
 	public SnailScreenHandler(int syncId, PlayerInventory playerInventory, PacketByteBuf buf) {
 		this(syncId, playerInventory,
@@ -65,11 +81,20 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 		checkSize(inventory, entity.getInventorySize());
 		this.player = playerInventory.player;
 		this.inventory = inventory;
+		this.enderChestInventory = this.player.getEnderChestInventory();
 		this.entity = entity;
 		this.currentStoragePage = currentStoragePage;
 
 		inventory.onOpen(playerInventory.player);
-		this.inventory.addListener(this);
+		this.enderChestInventory.onOpen(playerInventory.player);
+		if (!entity.getWorld().isClient() && !entity.isInventoryDifferent(inventory)) {
+			// Viewers of the same snail share the change tracking of its inventory.
+			this.inventorySync = entity.getInventorySync();
+			this.inventorySync.addViewer(this);
+		} else {
+			this.inventorySync = null;
+			this.inventory.addListener(this);
+		}
 
 		this.addSlot(new SaddleSlot(inventory, SnailEntity.SADDLE_SLOT, 26, 18));
 		this.addSlot(new DecorSlot(inventory, SnailEntity.CARPET_SLOT, 26, 36));
@@ -86,6 +111,13 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 			}
 		}
 
+		// Ender chest page, drawn over the snail equipment.
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 9; column++) {
+				this.addSlot(new EnderChestSlot(this.enderChestInventory, column + row * 9, 8 + column * 18, 18 + row * 18));
+			}
+		}
+
 		// Player inventory.
 		for (int row = 0; row < 3; ++row) {
 			for (int column = 0; column < 9; ++column) {
@@ -111,6 +143,13 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 		return this.inventory;
 	}
 
+	/**
+	 * {@return the player viewing this screen handler}
+	 */
+	public PlayerEntity getPlayer() {
+		return this.player;
+	}
+
 	/**
 	 * Returns whether this snail holds an ender chest.
 	 *
@@ -184,13 +223,70 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 		}
 	}
 
+	/**
+	 * Returns whether the given storage page can be selected in the current state of the snail inventory.
+	 *
+	 * @param page the storage page
+	 * @return {@code true} if the storage page can be selected, else {@code false}
+	 */
+	public boolean canSelectStoragePage(int page) {
+		if (page == ENDER_CHEST_PAGE)
+			return this.hasEnderChest();
+
+		return isValidStoragePage(page) && this.hasChest(page);
+	}
+
+	/**
+	 * {@return {@code true} if the ender chest page is currently selected, otherwise {@code false}}
+	 */
+	public boolean isEnderChestPageSelected() {
+		return this.currentStoragePage == ENDER_CHEST_PAGE;
+	}
+
+	/**
+	 * Returns whether the given value is a valid storage page index.
+	 *
+	 * @param page the storage page
+	 * @return {@code true} if the storage page index is in bounds, else {@code false}
+	 */
+	public static boolean isValidStoragePage(int page) {
+		return page >= 0 && page <= ENDER_CHEST_PAGE;
+	}
+
 	/**
 	 * Requests the server to switch to the given storage page.
+	 * <p>
+	 * The request is only sent on the next {@link #flushStoragePageRequest()},
+	 * so successive requests within the same frame get coalesced into a single packet.
 	 *
 	 * @param page the storage page to switch to
 	 */
 	@Environment(EnvType.CLIENT)
 	public void requestStoragePage(int page) {
+		this.requestedStoragePage = page;
+	}
+
+	/**
+	 * {@return the storage page that was last requested and not yet flushed to the server, or the current storage page}
+	 */
+	@Environment(EnvType.CLIENT)
+	public int getRequestedStoragePage() {
+		return this.requestedStoragePage != -1 ? this.requestedStoragePage : this.currentStoragePage;
+	}
+
+	/**
+	 * Sends the pending storage page request to the server, if any.
+	 */
+	@Environment(EnvType.CLIENT)
+	public void flushStoragePageRequest() {
+		int page = this.requestedStoragePage;
+		if (page == -1)
+			return;
+
+		this.requestedStoragePage = -1;
+		if (page == this.currentStoragePage)
+			return;
+
 		var buffer = PacketByteBufs.create();
 		buffer.writeVarInt(this.syncId);
 		buffer.writeByte(page);
@@ -204,7 +300,7 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 	 * @return the page to select
 	 */
 	public static int getOpeningStoragePage(Inventory inventory) {
-		for (int page = 0; page < 3; page++) {
+		for (int page = 0; page < STORAGE_PAGES; page++) {
 			if (inventory.getStack(2 + page).isOf(Items.CHEST)) {
 				return page;
 			}
@@ -285,20 +381,29 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 			var currentStack = slot.getStack();
 			stack = currentStack.copy();
 			int inventorySize = this.inventory.size();
+			int playerInventoryStart = inventorySize + ENDER_CHEST_SIZE;
 
 			ItemStack insertionIntoSnail;
 
 			if (fromIndex < inventorySize) {
-				if (this.snail().canUseSnail(player) && !this.insertItem(currentStack, inventorySize, this.slots.size(), true)) {
+				if (this.snail().canUseSnail(player) && !this.insertItem(currentStack, playerInventoryStart, this.slots.size(), true)) {
+					return ItemStack.EMPTY;
+				}
+			} else if (fromIndex < playerInventoryStart) {
+				if (!this.insertItem(currentStack, playerInventoryStart, this.slots.size(), true)) {
+					return ItemStack.EMPTY;
+				}
+			} else if (this.isEnderChestPageSelected()) {
+				if (!this.insertItem(currentStack, inventorySize, playerInventoryStart, false)) {
 					return ItemStack.EMPTY;
 				}
 			} else if ((insertionIntoSnail = this.attemptToTransferToSnail(player, currentStack)) != null) {
 				return insertionIntoSnail;
 			} else {
-				int playerInventoryEnd = inventorySize + 27;
+				int playerInventoryEnd = playerInventoryStart + 27;
 				int hotbarEnd = playerInventoryEnd + 9;
 				if (fromIndex >= playerInventoryEnd && fromIndex < hotbarEnd) {
-					if (!this.insertItem(currentStack, inventorySize, playerInventoryEnd, false)) {
+					if (!this.insertItem(currentStack, playerInventoryStart, playerInventoryEnd, false)) {
 						return ItemStack.EMPTY;
 					}
 				} else if (fromIndex < playerInventoryEnd) {
@@ -331,22 +436,62 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 	@Override
 	public boolean onButtonClick(PlayerEntity player, int id) {
 		if (id == 0 && this.hasEnderChest()) {
-			this.snail().openEnderChestInventory(player);
+			// The ender chest button toggles between the ender chest page and the storage pages.
+			if (this.isEnderChestPageSelected()) {
+				this.setCurrentStoragePage(getOpeningStoragePage(this.inventory));
+			} else {
+				this.setCurrentStoragePage(ENDER_CHEST_PAGE);
+			}
 			return true;
 		}
 		return super.onButtonClick(player, id);
 	}
 
+	@Override
+	public void sendContentUpdates() {
+		if (this.inventorySync == null) {
+			super.sendContentUpdates();
+			return;
+		}
+
+		this.inventorySync.flush();
+
+		// Same as vanilla, but the snail slots are left to the inventory sync, and this screen handler has no properties.
+		var accessor = (ScreenHandlerAccessor) this;
+		for (int slot = this.inventory.size(); slot < this.slots.size(); slot++) {
+			var stack = this.slots.get(slot).getStack();
+			Supplier<ItemStack> copySupplier = Suppliers.memoize(stack::copy);
+			accessor.lovely_snails$updateTrackedSlot(slot, stack, copySupplier);
+			accessor.lovely_snails$checkSlotUpdates(slot, stack, copySupplier);
+		}
+
+		accessor.lovely_snails$checkCursorStackUpdates();
+	}
+
 	@Override
 	public void close(PlayerEntity playerEntity) {
 		super.close(playerEntity);
 		this.inventory.onClose(playerEntity);
-		this.inventory.removeListener(this);
+		this.enderChestInventory.onClose(playerEntity);
+
+		if (this.inventorySync != null) {
+			this.inventorySync.removeViewer(this);
+		} else {
+			this.inventory.removeListener(this);
+		}
 	}
 
 	@Override
 	public void onInventoryChanged(Inventory sender) {
-		if (this.hasChests() && !this.hasChest(this.currentStoragePage)) {
+		if (this.isEnderChestPageSelected()) {
+			if (!this.hasEnderChest()) {
+				this.currentStoragePage = getOpeningStoragePage(this.getInventory());
+
+				for (var listener : this.pageChangeListeners) {
+					listener.onCurrentPageSet(this.currentStoragePage);
+				}
+			}
+		} else if (this.hasChests() && !this.hasChest(this.currentStoragePage)) {
 			this.currentStoragePage = switch (this.currentStoragePage) {
 				case 2 -> {
 					if (this.hasChest(1))
@@ -398,7 +543,7 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 
 		@Override
 		public boolean isEnabled() {
-			return this.snail().canBeSaddled();
+			return this.snail().canBeSaddled() && !this.screenHandler().isEnderChestPageSelected();
 		}
 	}
 
@@ -409,12 +554,12 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 
 		@Override
 		public boolean isEnabled() {
-			return true;
+			return !this.screenHandler().isEnderChestPageSelected();
 		}
 
 		@Override
 		public boolean canInsert(ItemStack stack) {
-			return SnailEntity.getColorFromCarpet(stack) != null;
+			return SnailEntity.getColorFromCarpet(stack) != null && this.isEnabled();
 		}
 
 		@Override
@@ -433,7 +578,7 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 
 		@Override
 		public boolean isEnabled() {
-			return !this.snail().isBaby();
+			return !this.snail().isBaby() && !this.screenHandler().isEnderChestPageSelected();
 		}
 
 		@Override
@@ -470,4 +615,25 @@ public class SnailScreenHandler extends ScreenHandler implements InventoryChange
 			return this.isEnabled();
 		}
 	}
+
+	private class EnderChestSlot extends Slot {
+		public EnderChestSlot(Inventory inventory, int index, int x, int y) {
+			super(inventory, index, x, y);
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return SnailScreenHandler.this.isEnderChestPageSelected();
+		}
+
+		@Override
+		public boolean canInsert(ItemStack stack) {
+			return this.isEnabled();
+		}
+
+		@Override
+		public boolean canTakeItems(PlayerEntity playerEntity) {
+			return this.isEnabled();
+		}
+	}
 }
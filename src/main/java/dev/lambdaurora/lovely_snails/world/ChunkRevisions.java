@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Tracks when the blocks of the loaded chunks of a world last changed.
+ * <p>
+ * Each block change stamps its chunk with a new value of a world-wide counter,
+ * so a region is unchanged since a given revision if none of its chunks has a greater stamp.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class ChunkRevisions {
+	private final Long2LongMap revisions = new Long2LongOpenHashMap();
+	private long revision;
+
+	/**
+	 * {@return the current revision of the world}
+	 */
+	public long getRevision() {
+		return this.revision;
+	}
+
+	public void onBlockChanged(BlockPos pos) {
+		this.revisions.put(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4), ++this.revision);
+	}
+
+	public void onChunkUnloaded(ChunkPos pos) {
+		this.revisions.remove(pos.toLong());
+	}
+
+	/**
+	 * Returns whether no block changed in the given chunk region since the given revision.
+	 *
+	 * @param minChunkX the minimum chunk X coordinate, inclusive
+	 * @param minChunkZ the minimum chunk Z coordinate, inclusive
+	 * @param maxChunkX the maximum chunk X coordinate, inclusive
+	 * @param maxChunkZ the maximum chunk Z coordinate, inclusive
+	 * @param revision the revision
+	 * @return {@code true} if the region is unchanged, else {@code false}
+	 */
+	public boolean isUnchangedSince(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, long revision) {
+		if (revision == this.revision)
+			return true;
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+				if (this.revisions.get(ChunkPos.toLong(chunkX, chunkZ)) > revision) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+}
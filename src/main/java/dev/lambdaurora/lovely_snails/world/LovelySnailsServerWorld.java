@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.network.SnailStatusBatcher;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.entity.SectionedEntityCache;
+
+/**
+ * Represents the snail-related state attached to a server world.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public interface LovelySnailsServerWorld {
+	/**
+	 * {@return the snail-related state of the given world}
+	 *
+	 * @param world the world
+	 */
+	static LovelySnailsServerWorld get(ServerWorld world) {
+		return (LovelySnailsServerWorld) world;
+	}
+
+	SnailStatusBatcher lovely_snails$getStatusBatcher();
+
+	SnailGrowthQueue lovely_snails$getGrowthQueue();
+
+	SnailHerdManager lovely_snails$getHerdManager();
+
+	SnailHotStore lovely_snails$getHotStore();
+
+	SnailSenses lovely_snails$getSenses();
+
+	ChunkRevisions lovely_snails$getChunkRevisions();
+
+	SnailLoveRegistry lovely_snails$getLoveRegistry();
+
+	SnailPlayerCache lovely_snails$getPlayerCache();
+
+	SnailCrowding lovely_snails$getCrowding();
+
+	SnailClimateCache lovely_snails$getClimateCache();
+
+	/**
+	 * {@return the entity sections of the world}
+	 */
+	SectionedEntityCache<Entity> lovely_snails$getEntitySections();
+}
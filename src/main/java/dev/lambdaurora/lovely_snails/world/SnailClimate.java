@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Represents the climate a snail is in, as far as its satisfaction is concerned.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum SnailClimate {
+	/**
+	 * A climate without precipitation, where water is the most satisfying.
+	 */
+	DRY(20, 15),
+	/**
+	 * A climate with rain.
+	 */
+	TEMPERATE(10, 15),
+	/**
+	 * A climate with snow, where decor barely satisfies.
+	 */
+	SNOWY(15, 5);
+
+	private final int waterSatisfaction;
+	private final int decorSatisfaction;
+
+	SnailClimate(int waterSatisfaction, int decorSatisfaction) {
+		this.waterSatisfaction = waterSatisfaction;
+		this.decorSatisfaction = decorSatisfaction;
+	}
+
+	/**
+	 * {@return the base satisfaction a snail gets when splashed with water by its owner}
+	 */
+	public int getWaterSatisfaction() {
+		return this.waterSatisfaction;
+	}
+
+	/**
+	 * {@return the base satisfaction a snail gets when equipped with a carpet}
+	 */
+	public int getDecorSatisfaction() {
+		return this.decorSatisfaction;
+	}
+
+	/**
+	 * Resolves the climate at the given position from the biome and its temperature at that position.
+	 *
+	 * @param world the world
+	 * @param pos the position
+	 * @return the climate
+	 */
+	public static SnailClimate of(World world, BlockPos pos) {
+		var biome = world.getBiome(pos).value();
+
+		if (!biome.hasPrecipitation()) return DRY;
+		else if (biome.doesNotSnow(pos)) return TEMPERATE;
+		else return SNOWY;
+	}
+}
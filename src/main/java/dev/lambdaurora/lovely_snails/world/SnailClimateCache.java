@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+/**
+ * Caches the climate of the chunk sections of the loaded chunks of a world.
+ * <p>
+ * The climate of a section is resolved at its center the first time it's needed, and forgotten once its chunk is unloaded.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailClimateCache {
+	private final Long2ObjectMap<SnailClimate[]> climates = new Long2ObjectOpenHashMap<>();
+
+	/**
+	 * Gets the climate of the chunk section at the given position.
+	 *
+	 * @param world the world
+	 * @param pos the position
+	 * @return the climate
+	 */
+	public SnailClimate get(ServerWorld world, BlockPos pos) {
+		int chunkX = ChunkSectionPos.getSectionCoord(pos.getX()), chunkZ = ChunkSectionPos.getSectionCoord(pos.getZ());
+		int sectionIndex = world.getSectionIndex(pos.getY());
+
+		// Only loaded chunks are cached, as the cache entries are removed on chunk unload.
+		if (sectionIndex < 0 || sectionIndex >= world.countVerticalSections() || !world.isChunkLoaded(chunkX, chunkZ))
+			return SnailClimate.of(world, pos);
+
+		long chunk = ChunkPos.toLong(chunkX, chunkZ);
+		var sections = this.climates.get(chunk);
+		if (sections == null) {
+			sections = new SnailClimate[world.countVerticalSections()];
+			this.climates.put(chunk, sections);
+		}
+
+		var climate = sections[sectionIndex];
+		if (climate == null) {
+			climate = sections[sectionIndex] = SnailClimate.of(world, ChunkSectionPos.from(pos).getCenterPos());
+		}
+
+		return climate;
+	}
+
+	public void onChunkUnloaded(ChunkPos pos) {
+		this.climates.remove(pos.toLong());
+	}
+}
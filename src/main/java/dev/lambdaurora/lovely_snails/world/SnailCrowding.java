@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.mixin.EntityTrackingSectionAccessor;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.function.LazyIterationConsumer;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Broadphase of the snail-to-snail pushes, built at the start of each world tick.
+ * <p>
+ * Snails are bucketed in a grid of {@value #CELL_SIZE} blocks wide cells by their position,
+ * so a snail only tests the bounding boxes of the snails in the cells around it instead of every entity in its sections.
+ * Other entities are only looked up when the entity sections around the snail hold anything else than snails.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailCrowding {
+	private static final int CELL_SHIFT = 2;
+	public static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+	private final Long2ObjectMap<List<SnailEntity>> cells = new Long2ObjectOpenHashMap<>();
+	private final List<List<SnailEntity>> pooledCells = new ArrayList<>();
+	private boolean foundOtherEntity;
+
+	/**
+	 * Rebuilds the grid from the snails of the world.
+	 *
+	 * @param store the hot store, which holds every snail loaded in the world
+	 */
+	public void update(SnailHotStore store) {
+		for (var cell : this.cells.values()) {
+			cell.clear();
+			this.pooledCells.add(cell);
+		}
+		this.cells.clear();
+
+		for (int i = 0; i < store.size(); i++) {
+			var snail = store.getSnail(i);
+			long cell = ChunkPos.toLong(MathHelper.floor(snail.getX()) >> CELL_SHIFT, MathHelper.floor(snail.getZ()) >> CELL_SHIFT);
+			var snails = this.cells.get(cell);
+
+			if (snails == null) {
+				snails = this.pooledCells.isEmpty() ? new ArrayList<>() : this.pooledCells.remove(this.pooledCells.size() - 1);
+				this.cells.put(cell, snails);
+			}
+
+			snails.add(snail);
+		}
+	}
+
+	/**
+	 * Checks whether the entity sections around the given box hold any entity which isn't a snail,
+	 * only reading the entity counts of the sections.
+	 *
+	 * @param world the world
+	 * @param box the box
+	 * @return {@code true} if an entity other than a snail may intersect the box, or {@code false} otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean hasOtherEntities(ServerWorld world, Box box) {
+		this.foundOtherEntity = false;
+		LovelySnailsServerWorld.get(world).lovely_snails$getEntitySections().forEachInBox(box, section -> {
+			var entities = ((EntityTrackingSectionAccessor<Entity>) section).lovely_snails$getCollection();
+
+			// The snails of a section are kept in their own list, so this is only a comparison of sizes.
+			if (entities.size() > entities.getAllOfType(SnailEntity.class).size()) {
+				this.foundOtherEntity = true;
+				return LazyIterationConsumer.NextIteration.ABORT;
+			}
+
+			return LazyIterationConsumer.NextIteration.CONTINUE;
+		});
+		return this.foundOtherEntity;
+	}
+
+	/**
+	 * Collects the snails whose current bounding box intersects the given box.
+	 *
+	 * @param box the box
+	 * @param except the snail to exclude
+	 * @param out the list to add the snails to
+	 */
+	public void collectSnails(Box box, SnailEntity except, List<SnailEntity> out) {
+		if (this.cells.isEmpty())
+			return;
+
+		// Snails may have moved since the grid got built, so a cell further is checked.
+		int minCellX = (MathHelper.floor(box.minX) >> CELL_SHIFT) - 1, maxCellX = (MathHelper.floor(box.maxX) >> CELL_SHIFT) + 1;
+		int minCellZ = (MathHelper.floor(box.minZ) >> CELL_SHIFT) - 1, maxCellZ = (MathHelper.floor(box.maxZ) >> CELL_SHIFT) + 1;
+
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+			for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+				var snails = this.cells.get(ChunkPos.toLong(cellX, cellZ));
+				if (snails == null)
+					continue;
+
+				for (int i = 0; i < snails.size(); i++) {
+					var snail = snails.get(i);
+
+					if (snail != except && !snail.isRemoved() && snail.getBoundingBox().intersects(box)) {
+						out.add(snail);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.network.SnailStatusBatcher;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the growths of baby snails which got blocked because their adult form would suffocate.
+ * <p>
+ * A blocked growth is only checked again once a block changes next to the snail or once the snail moved,
+ * instead of requiring the player to feed the snail again.
+ * <p>
+ * The queue holds the satisfaction gain which got withheld rather than the satisfaction to set,
+ * so a snail whose satisfaction got lowered in the meantime doesn't grow up from an outdated value.
+ * The queue isn't saved, snails save their own withheld gain instead, see {@link #getBlockedGrowth(SnailEntity)}.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailGrowthQueue {
+	/**
+	 * The distance around the snail block position in which a block change triggers a new check.
+	 */
+	private static final int CHECK_RADIUS = 2;
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	/**
+	 * Queues a blocked growth, replacing any growth previously queued for the same snail.
+	 *
+	 * @param snail the snail which can't grow up yet
+	 * @param satisfaction the satisfaction to set once the snail can grow up
+	 */
+	public void queue(SnailEntity snail, int satisfaction) {
+		this.queueGain(snail, (int) Math.min(Integer.MAX_VALUE, (long) satisfaction - snail.getSatisfaction()));
+	}
+
+	/**
+	 * Queues a blocked satisfaction gain, replacing any gain previously queued for the same snail if greater.
+	 *
+	 * @param snail the snail which can't grow up yet
+	 * @param gain the satisfaction gain to apply once the snail can grow up
+	 */
+	public void queueGain(SnailEntity snail, int gain) {
+		var entry = this.getEntry(snail);
+
+		if (entry != null) {
+			entry.gain = Math.max(entry.gain, gain);
+			entry.blockPos = snail.getBlockPos();
+		} else {
+			this.entries.add(new Entry(snail, gain));
+		}
+	}
+
+	/**
+	 * {@return the satisfaction gain withheld from the given snail, or {@code 0} if it has no blocked growth}
+	 *
+	 * @param snail the snail
+	 */
+	public int getBlockedGrowth(SnailEntity snail) {
+		var entry = this.getEntry(snail);
+		return entry != null ? entry.gain : 0;
+	}
+
+	private @Nullable Entry getEntry(SnailEntity snail) {
+		for (int i = 0; i < this.entries.size(); i++) {
+			var entry = this.entries.get(i);
+
+			if (entry.snail == snail) {
+				return entry;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Marks the queued growths next to the given block position for a new check.
+	 *
+	 * @param pos the position of the changed block
+	 */
+	public void onBlockChanged(BlockPos pos) {
+		for (int i = 0; i < this.entries.size(); i++) {
+			var entry = this.entries.get(i);
+
+			if (Math.abs(entry.blockPos.getX() - pos.getX()) <= CHECK_RADIUS
+					&& Math.abs(entry.blockPos.getY() - pos.getY()) <= CHECK_RADIUS
+					&& Math.abs(entry.blockPos.getZ() - pos.getZ()) <= CHECK_RADIUS) {
+				entry.dirty = true;
+			}
+		}
+	}
+
+	/**
+	 * Checks again the queued growths which may have been unblocked during this tick.
+	 */
+	public void tick() {
+		for (int i = this.entries.size() - 1; i >= 0; i--) {
+			var entry = this.entries.get(i);
+			var snail = entry.snail;
+
+			if (snail.isRemoved() || !snail.isBaby()) {
+				this.entries.remove(i);
+				continue;
+			}
+
+			var blockPos = snail.getBlockPos();
+			if (!blockPos.equals(entry.blockPos)) {
+				entry.blockPos = blockPos;
+				entry.dirty = true;
+			}
+
+			int satisfaction = (int) Math.min(Integer.MAX_VALUE, (long) snail.getSatisfaction() + entry.gain);
+			if (satisfaction < 0) {
+				// The satisfaction got lowered since the growth got blocked, the gain no longer makes the snail grow up.
+				snail.setSatisfaction(satisfaction);
+				this.entries.remove(i);
+				continue;
+			}
+
+			if (!entry.dirty)
+				continue;
+
+			entry.dirty = false;
+
+			if (!snail.willSuffocateAsAdult()) {
+				snail.setSatisfaction(satisfaction);
+				SnailStatusBatcher.sendStatus(snail, (byte) 8);
+				this.entries.remove(i);
+			}
+		}
+	}
+
+	private static final class Entry {
+		private final SnailEntity snail;
+		private int gain;
+		private BlockPos blockPos;
+		private boolean dirty;
+
+		private Entry(SnailEntity snail, int gain) {
+			this.snail = snail;
+			this.gain = gain;
+			this.blockPos = snail.getBlockPos();
+			// Checked once right away, as a gain restored from a saved snail may no longer be blocked.
+			this.dirty = true;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import dev.lambdaurora.lovely_snails.registry.LovelySnailsRegistry;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodically looks for the idle snails which could join a herd, and collapses them into herds.
+ * <p>
+ * Every {@value #HERD_CHECK_INTERVAL} ticks, all the snails of the world are checked at once and grouped by chunk,
+ * a herd is only formed if enough snails of the same chunk are idle.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ * @see dev.lambdaurora.lovely_snails.entity.SnailHerdEntity
+ */
+public final class SnailHerdManager {
+	/**
+	 * The minimum amount of idle snails in a chunk to form a herd.
+	 */
+	public static final int MIN_HERD_SIZE = 4;
+	/**
+	 * The interval in ticks between two looks for idle snails.
+	 */
+	public static final int HERD_CHECK_INTERVAL = 200;
+
+	private final Long2ObjectMap<List<SnailEntity>> candidates = new Long2ObjectOpenHashMap<>();
+
+	/**
+	 * Collapses the idle snails of the world into herds, if it's time to look for them.
+	 *
+	 * @param world the world
+	 * @param store the hot store, which holds every snail loaded in the world
+	 */
+	public void tick(ServerWorld world, SnailHotStore store) {
+		if (world.getTime() % HERD_CHECK_INTERVAL != 0 || store.size() < MIN_HERD_SIZE
+				|| !world.getGameRules().getBoolean(LovelySnailsRegistry.SNAIL_HERDING))
+			return;
+
+		for (int i = 0; i < store.size(); i++) {
+			var snail = store.getSnail(i);
+
+			if (snail.canJoinHerd()) {
+				this.candidates.computeIfAbsent(ChunkPos.toLong(snail.getBlockPos()), chunk -> new ArrayList<>()).add(snail);
+			}
+		}
+
+		// Collapsing removes the snails from the hot store, so herds are formed once the store isn't iterated anymore.
+		for (var snails : this.candidates.values()) {
+			if (snails.size() < MIN_HERD_SIZE)
+				continue;
+
+			var herd = LovelySnailsRegistry.SNAIL_HERD_ENTITY_TYPE.create(world);
+			if (herd == null)
+				continue;
+
+			double x = 0, y = 0, z = 0;
+			for (var snail : snails) {
+				x += snail.getX();
+				y += snail.getY();
+				z += snail.getZ();
+			}
+			herd.refreshPositionAndAngles(x / snails.size(), y / snails.size(), z / snails.size(), 0.f, 0.f);
+
+			herd.collapse(snails);
+			world.spawnEntity(herd);
+		}
+
+		this.candidates.clear();
+	}
+}
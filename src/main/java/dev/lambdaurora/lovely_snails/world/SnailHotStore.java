@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores the frequently updated simulation state of the snails loaded in a world in primitive arrays.
+ * <p>
+ * Each loaded snail is assigned a dense slot, removed snails are replaced by the last slot to keep the arrays packed.
+ * The per-tick updates of this state are run as a single pass over the arrays at the end of the world tick,
+ * for the snails which ticked during that tick.
+ * <p>
+ * The snail state flags are mirrored here for the server reads, they're still written to the tracked data of the snail
+ * as clients need them. The tracked data owned by vanilla, like the health or the baby state, stays on the entity.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailHotStore {
+	private static final int INITIAL_CAPACITY = 64;
+	/**
+	 * The chance in which a snail heals by one health point each tick is {@code 1 / REGEN_CHANCE}.
+	 */
+	private static final int REGEN_CHANCE = 900;
+
+	private SnailEntity[] snails = new SnailEntity[INITIAL_CAPACITY];
+	private int[] satisfaction = new int[INITIAL_CAPACITY];
+	private short[] interactionCooldown = new short[INITIAL_CAPACITY];
+	private int[] snailState = new int[INITIAL_CAPACITY];
+	private final BitSet ticked = new BitSet();
+	private int size;
+
+	/**
+	 * Assigns a slot to the given snail.
+	 *
+	 * @param snail the snail
+	 * @param satisfaction the current satisfaction of the snail
+	 * @param interactionCooldown the current interaction cooldown of the snail
+	 * @param snailState the current state flags of the snail
+	 * @return the assigned slot
+	 */
+	public int add(SnailEntity snail, int satisfaction, short interactionCooldown, int snailState) {
+		if (this.size == this.snails.length) {
+			int capacity = this.size * 2;
+			this.snails = Arrays.copyOf(this.snails, capacity);
+			this.satisfaction = Arrays.copyOf(this.satisfaction, capacity);
+			this.interactionCooldown = Arrays.copyOf(this.interactionCooldown, capacity);
+			this.snailState = Arrays.copyOf(this.snailState, capacity);
+		}
+
+		int slot = this.size++;
+		this.snails[slot] = snail;
+		this.satisfaction[slot] = satisfaction;
+		this.interactionCooldown[slot] = interactionCooldown;
+		this.snailState[slot] = snailState;
+		return slot;
+	}
+
+	/**
+	 * Frees the given slot, the last slot is moved in its place.
+	 *
+	 * @param slot the slot to free
+	 */
+	public void remove(int slot) {
+		int last = --this.size;
+
+		if (slot != last) {
+			var moved = this.snails[last];
+			this.snails[slot] = moved;
+			this.satisfaction[slot] = this.satisfaction[last];
+			this.interactionCooldown[slot] = this.interactionCooldown[last];
+			this.snailState[slot] = this.snailState[last];
+			this.ticked.set(slot, this.ticked.get(last));
+			moved.setHotSlot(slot);
+		}
+
+		this.snails[last] = null;
+		this.ticked.clear(last);
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public SnailEntity getSnail(int slot) {
+		return this.snails[slot];
+	}
+
+	public int getSatisfaction(int slot) {
+		return this.satisfaction[slot];
+	}
+
+	public void setSatisfaction(int slot, int satisfaction) {
+		this.satisfaction[slot] = satisfaction;
+	}
+
+	public short getInteractionCooldown(int slot) {
+		return this.interactionCooldown[slot];
+	}
+
+	public void setInteractionCooldown(int slot, short interactionCooldown) {
+		this.interactionCooldown[slot] = interactionCooldown;
+	}
+
+	public int getSnailState(int slot) {
+		return this.snailState[slot];
+	}
+
+	public void setSnailState(int slot, int snailState) {
+		this.snailState[slot] = snailState;
+	}
+
+	/**
+	 * Marks the snail of the given slot as ticked during this tick.
+	 *
+	 * @param slot the slot of the snail
+	 */
+	public void markTicked(int slot) {
+		this.ticked.set(slot);
+	}
+
+	/**
+	 * Updates the state of the snails which ticked during this tick.
+	 */
+	public void tick() {
+		var cooldowns = this.interactionCooldown;
+
+		for (int slot = this.ticked.nextSetBit(0); slot >= 0 && slot < this.size; slot = this.ticked.nextSetBit(slot + 1)) {
+			var snail = this.snails[slot];
+
+			if (!snail.isAlive())
+				continue;
+
+			if (snail.getRandom().nextInt(REGEN_CHANCE) == 0 && snail.deathTime == 0) {
+				snail.heal(1.f);
+			}
+
+			if (cooldowns[slot] != 0 && --cooldowns[slot] == 0) {
+				snail.onInteractionCooldownEnd();
+			}
+		}
+
+		this.ticked.clear();
+	}
+}
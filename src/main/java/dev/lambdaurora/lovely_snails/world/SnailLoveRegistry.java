@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of the snails of a world which are in love, bucketed by chunk, so mates are only searched among them.
+ * <p>
+ * Snails are added when they fall in love, and removed at the end of the tick once they're no longer in love.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailLoveRegistry {
+	private final ReferenceLinkedOpenHashSet<SnailEntity> inLove = new ReferenceLinkedOpenHashSet<>();
+	private final Long2ObjectMap<List<SnailEntity>> cells = new Long2ObjectOpenHashMap<>();
+
+	/**
+	 * Adds the given snail, which just fell in love.
+	 *
+	 * @param snail the snail
+	 */
+	public void add(SnailEntity snail) {
+		if (this.inLove.add(snail)) {
+			this.bucket(snail);
+		}
+	}
+
+	private void bucket(SnailEntity snail) {
+		long cell = ChunkPos.toLong(MathHelper.floor(snail.getX()) >> 4, MathHelper.floor(snail.getZ()) >> 4);
+		this.cells.computeIfAbsent(cell, c -> new ArrayList<>()).add(snail);
+	}
+
+	/**
+	 * Removes the snails which are no longer in love and updates the buckets of the others.
+	 */
+	public void tick() {
+		this.cells.clear();
+
+		if (this.inLove.isEmpty())
+			return;
+
+		var iterator = this.inLove.iterator();
+		while (iterator.hasNext()) {
+			var snail = iterator.next();
+
+			if (snail.isRemoved() || !snail.isInLove()) {
+				iterator.remove();
+			} else {
+				this.bucket(snail);
+			}
+		}
+	}
+
+	/**
+	 * Finds the nearest snail the given snail can breed with.
+	 *
+	 * @param snail the snail looking for a mate
+	 * @param range the maximum distance of the mate
+	 * @return the nearest mate, or {@code null} if there's none
+	 */
+	public @Nullable SnailEntity findMate(SnailEntity snail, double range) {
+		if (this.inLove.size() < 2)
+			return null;
+
+		var box = snail.getBoundingBox().expand(range);
+		double maxDistance = range * range;
+		SnailEntity mate = null;
+		double mateDistance = Double.MAX_VALUE;
+
+		// Entity positions may be anywhere in their bounding box, so a cell further is checked.
+		int minCellX = (MathHelper.floor(box.minX) >> 4) - 1, maxCellX = (MathHelper.floor(box.maxX) >> 4) + 1;
+		int minCellZ = (MathHelper.floor(box.minZ) >> 4) - 1, maxCellZ = (MathHelper.floor(box.maxZ) >> 4) + 1;
+
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+			for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+				var candidates = this.cells.get(ChunkPos.toLong(cellX, cellZ));
+				if (candidates == null)
+					continue;
+
+				for (int i = 0; i < candidates.size(); i++) {
+					var candidate = candidates.get(i);
+					if (candidate == snail || !candidate.isAlive() || !box.intersects(candidate.getBoundingBox()))
+						continue;
+
+					double distance = snail.squaredDistanceTo(candidate);
+					if (distance <= maxDistance && distance < mateDistance && snail.canBreedWith(candidate)) {
+						mate = candidate;
+						mateDistance = distance;
+					}
+				}
+			}
+		}
+
+		return mate;
+	}
+}
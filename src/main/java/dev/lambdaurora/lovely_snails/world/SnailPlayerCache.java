@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Caches the players of a world at the start of each world tick, bucketed by chunk,
+ * so snails only look at the players close to them.
+ * <p>
+ * Spectators and dead players are left out, as every snail decision involving players ignores them.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailPlayerCache {
+	private final List<PlayerEntity> players = new ArrayList<>();
+	private final Long2ObjectMap<List<PlayerEntity>> cells = new Long2ObjectOpenHashMap<>();
+
+	/**
+	 * Updates the cache with the players of the given world.
+	 *
+	 * @param world the world
+	 */
+	public void update(ServerWorld world) {
+		this.players.clear();
+		this.cells.clear();
+
+		for (var player : world.getPlayers()) {
+			if (!player.isSpectator() && player.isAlive()) {
+				this.players.add(player);
+				long cell = ChunkPos.toLong(MathHelper.floor(player.getX()) >> 4, MathHelper.floor(player.getZ()) >> 4);
+				this.cells.computeIfAbsent(cell, c -> new ArrayList<>(1)).add(player);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a player is within the given range of the given position.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param z the Z coordinate
+	 * @param range the range
+	 * @return {@code true} if a player is in range, else {@code false}
+	 */
+	public boolean isPlayerInRange(double x, double y, double z, double range) {
+		return this.getClosestPlayer(x, y, z, range, player -> true) != null;
+	}
+
+	/**
+	 * Finds the closest player to the given position which is within the given range and matches the given predicate.
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 * @param z the Z coordinate
+	 * @param range the range
+	 * @param predicate the predicate players must match
+	 * @return the closest player, or {@code null} if there's none
+	 */
+	public @Nullable PlayerEntity getClosestPlayer(double x, double y, double z, double range, Predicate<PlayerEntity> predicate) {
+		if (this.players.isEmpty())
+			return null;
+
+		double maxDistance = range * range;
+		PlayerEntity closest = null;
+		double closestDistance = Double.MAX_VALUE;
+
+		// Players may have moved a bit since the cache got updated, so a cell further is checked.
+		int minCellX = (MathHelper.floor(x - range) >> 4) - 1, maxCellX = (MathHelper.floor(x + range) >> 4) + 1;
+		int minCellZ = (MathHelper.floor(z - range) >> 4) - 1, maxCellZ = (MathHelper.floor(z + range) >> 4) + 1;
+
+		// With few players, checking all of them is cheaper than looking up the cells.
+		if ((long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1) > this.players.size()) {
+			for (int i = 0; i < this.players.size(); i++) {
+				var player = this.players.get(i);
+				double distance = player.squaredDistanceTo(x, y, z);
+
+				if (distance < maxDistance && distance < closestDistance && predicate.test(player)) {
+					closest = player;
+					closestDistance = distance;
+				}
+			}
+
+			return closest;
+		}
+
+		for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+			for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+				var players = this.cells.get(ChunkPos.toLong(cellX, cellZ));
+				if (players == null)
+					continue;
+
+				for (int i = 0; i < players.size(); i++) {
+					var player = players.get(i);
+					double distance = player.squaredDistanceTo(x, y, z);
+
+					if (distance < maxDistance && distance < closestDistance && predicate.test(player)) {
+						closest = player;
+						closestDistance = distance;
+					}
+				}
+			}
+		}
+
+		return closest;
+	}
+}
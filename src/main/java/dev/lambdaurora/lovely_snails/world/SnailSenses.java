@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.lovely_snails.world;
+
+import dev.lambdaurora.lovely_snails.entity.SnailEntity;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.HostileEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Computes what the snails of a world sense at the start of each world tick.
+ * <p>
+ * The positions of the snails and of the hostile mobs around them are copied into a snapshot on the server thread,
+ * then the sensing results of each snail are computed from that snapshot only, in parallel if there are enough snails.
+ * Hostile mobs are only looked up in the chunks next to snails, through the entity sections of these chunks.
+ * <p>
+ * The parallel work runs on a small pool of its own rather than on the common pool, which other mods may rely on.
+ * Goals then read the results of their snail on the server thread instead of querying the world,
+ * and fall back to querying the world if the snail isn't part of the current snapshot.
+ *
+ * @author LambdAurora
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SnailSenses {
+	/**
+	 * The horizontal range in which hostile mobs are sensed.
+	 */
+	public static final double HOSTILE_RANGE = 8.0;
+	/**
+	 * The vertical range in which hostile mobs are sensed.
+	 */
+	public static final double HOSTILE_VERTICAL_RANGE = 3.0;
+	/**
+	 * The horizontal range in which baby snails look for an adult.
+	 */
+	public static final double ADULT_RANGE = 8.0;
+	/**
+	 * The vertical range in which baby snails look for an adult.
+	 */
+	public static final double ADULT_VERTICAL_RANGE = 4.0;
+	private static final int PARALLEL_THRESHOLD = 64;
+	private static final ForkJoinPool POOL = new ForkJoinPool(
+			MathHelper.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, 4),
+			pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Lovely Snails Senses #" + thread.getPoolIndex());
+				thread.setDaemon(true);
+				return thread;
+			},
+			null, false
+	);
+
+	private int generation;
+	private int snailCount;
+	private SnailEntity[] snails = new SnailEntity[0];
+	private double[] snailBoxes = new double[0];
+	private double[] snailPositions = new double[0];
+	private boolean[] babies = new boolean[0];
+	private int hostileCount;
+	private double[] hostileBoxes = new double[0];
+	private final Long2ObjectMap<IntArrayList> hostileCells = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<IntArrayList> adultCells = new Long2ObjectOpenHashMap<>();
+	private final LongSet snailChunks = new LongOpenHashSet();
+	private final LongSet scannedChunks = new LongOpenHashSet();
+	private double snailMinY;
+	private double snailMaxY;
+
+	private double[] hostileGaps = new double[0];
+	private int[] nearestAdults = new int[0];
+
+	/**
+	 * Takes a new snapshot of the world and computes the sensing results of every snail.
+	 *
+	 * @param world the world
+	 * @param store the hot store, which holds every snail loaded in the world
+	 */
+	public void update(ServerWorld world, SnailHotStore store) {
+		this.generation++;
+		this.snailCount = 0;
+		this.hostileCount = 0;
+		this.hostileCells.clear();
+		this.adultCells.clear();
+		this.snailChunks.clear();
+		this.scannedChunks.clear();
+
+		if (store.size() == 0)
+			return;
+
+		this.snapshotSnails(store);
+		this.snapshotHostiles(world);
+
+		// Only reads the snapshot arrays, each snail only writes its own results.
+		if (this.snailCount >= PARALLEL_THRESHOLD) {
+			POOL.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, this.snailCount).parallel().forEach(this::sense)));
+		} else {
+			for (int i = 0; i < this.snailCount; i++) {
+				this.sense(i);
+			}
+		}
+	}
+
+	private void snapshotSnails(SnailHotStore store) {
+		int count = store.size();
+
+		if (this.snails.length < count) {
+			int capacity = Math.max(count, this.snails.length * 2);
+			this.snails = new SnailEntity[capacity];
+			this.snailBoxes = new double[capacity * 6];
+			this.snailPositions = new double[capacity * 3];
+			this.babies = new boolean[capacity];
+			this.hostileGaps = new double[capacity];
+			this.nearestAdults = new int[capacity];
+		}
+
+		this.snailMinY = Double.POSITIVE_INFINITY;
+		this.snailMaxY = Double.NEGATIVE_INFINITY;
+
+		for (int i = 0; i < count; i++) {
+			var snail = store.getSnail(i);
+			var box = snail.getBoundingBox();
+			this.snailChunks.add(ChunkPos.toLong(MathHelper.floor(snail.getX()) >> 4, MathHelper.floor(snail.getZ()) >> 4));
+			this.snailMinY = Math.min(this.snailMinY, box.minY);
+			this.snailMaxY = Math.max(this.snailMaxY, box.maxY);
+
+			this.snails[i] = snail;
+			writeBox(this.snailBoxes, i, box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+			this.snailPositions[i * 3] = snail.getX();
+			this.snailPositions[i * 3 + 1] = snail.getY();
+			this.snailPositions[i * 3 + 2] = snail.getZ();
+			this.babies[i] = snail.isBaby();
+			snail.setSenseIndex(this.generation, i);
+
+			if (!this.babies[i]) {
+				this.adultCells.computeIfAbsent(ChunkPos.toLong(MathHelper.floor(snail.getX()) >> 4, MathHelper.floor(snail.getZ()) >> 4),
+						cell -> new IntArrayList()).add(i);
+			}
+		}
+
+		// Clears the references to snails which are no longer loaded.
+		Arrays.fill(this.snails, count, this.snails.length, null);
+		this.snailCount = count;
+	}
+
+	/**
+	 * Copies the hostile mobs of the chunks containing snails and of their neighbors, which cover the hostile range.
+	 */
+	private void snapshotHostiles(ServerWorld world) {
+		var chunks = this.snailChunks.iterator();
+
+		while (chunks.hasNext()) {
+			long chunk = chunks.nextLong();
+			int snailChunkX = ChunkPos.getPackedX(chunk), snailChunkZ = ChunkPos.getPackedZ(chunk);
+
+			for (int chunkX = snailChunkX - 1; chunkX <= snailChunkX + 1; chunkX++) {
+				for (int chunkZ = snailChunkZ - 1; chunkZ <= snailChunkZ + 1; chunkZ++) {
+					if (this.scannedChunks.add(ChunkPos.toLong(chunkX, chunkZ))) {
+						this.snapshotHostiles(world, chunkX, chunkZ);
+					}
+				}
+			}
+		}
+	}
+
+	private void snapshotHostiles(ServerWorld world, int chunkX, int chunkZ) {
+		var box = new Box(chunkX << 4, this.snailMinY - HOSTILE_VERTICAL_RANGE, chunkZ << 4,
+				(chunkX << 4) + 16, this.snailMaxY + HOSTILE_VERTICAL_RANGE, (chunkZ << 4) + 16);
+
+		// Mobs overlapping several chunks are only taken from the chunk they are in, so they aren't copied twice.
+		var hostiles = world.getEntitiesByClass(HostileEntity.class, box,
+				entity -> entity.getBlockX() >> 4 == chunkX && entity.getBlockZ() >> 4 == chunkZ);
+		for (int i = 0; i < hostiles.size(); i++) {
+			this.snapshotHostile(hostiles.get(i));
+		}
+	}
+
+	private void snapshotHostile(Entity entity) {
+		int index = this.hostileCount++;
+		if (this.hostileBoxes.length < this.hostileCount * 6) {
+			this.hostileBoxes = Arrays.copyOf(this.hostileBoxes, Math.max(64, this.hostileBoxes.length * 2));
+		}
+
+		var box = entity.getBoundingBox();
+		writeBox(this.hostileBoxes, index, box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+		this.hostileCells.computeIfAbsent(ChunkPos.toLong(MathHelper.floor(entity.getX()) >> 4, MathHelper.floor(entity.getZ()) >> 4),
+				cell -> new IntArrayList()).add(index);
+	}
+
+	private static void writeBox(double[] boxes, int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		int offset = index * 6;
+		boxes[offset] = minX;
+		boxes[offset + 1] = minY;
+		boxes[offset + 2] = minZ;
+		boxes[offset + 3] = maxX;
+		boxes[offset + 4] = maxY;
+		boxes[offset + 5] = maxZ;
+	}
+
+	private void sense(int snail) {
+		int offset = snail * 6;
+		double minX = this.snailBoxes[offset], minY = this.snailBoxes[offset + 1], minZ = this.snailBoxes[offset + 2];
+		double maxX = this.snailBoxes[offset + 3], maxY = this.snailBoxes[offset + 4], maxZ = this.snailBoxes[offset + 5];
+
+		this.hostileGaps[snail] = this.senseHostiles(minX, minY, minZ, maxX, maxY, maxZ);
+		this.nearestAdults[snail] = this.babies[snail] ? this.senseNearestAdult(snail, minX, minY, minZ, maxX, maxY, maxZ) : -1;
+	}
+
+	/**
+	 * Computes the smallest horizontal expansion of the snail bounding box which would intersect a hostile mob.
+	 */
+	private double senseHostiles(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		double closestGap = Double.POSITIVE_INFINITY;
+		// Entity positions may be anywhere in their bounding box, so a cell further is checked.
+		int minCellX = MathHelper.floor(minX - HOSTILE_RANGE) >> 4, maxCellX = MathHelper.floor(maxX + HOSTILE_RANGE) >> 4;
+		int minCellZ = MathHelper.floor(minZ - HOSTILE_RANGE) >> 4, maxCellZ = MathHelper.floor(maxZ + HOSTILE_RANGE) >> 4;
+
+		for (int cellX = minCellX - 1; cellX <= maxCellX + 1; cellX++) {
+			for (int cellZ = minCellZ - 1; cellZ <= maxCellZ + 1; cellZ++) {
+				var hostiles = this.hostileCells.get(ChunkPos.toLong(cellX, cellZ));
+				if (hostiles == null)
+					continue;
+
+				for (int i = 0; i < hostiles.size(); i++) {
+					int offset = hostiles.getInt(i) * 6;
+
+					if (!(this.hostileBoxes[offset + 1] < maxY + HOSTILE_VERTICAL_RANGE
+							&& this.hostileBoxes[offset + 4] > minY - HOSTILE_VERTICAL_RANGE))
+						continue;
+
+					double gapX = Math.max(0, Math.max(this.hostileBoxes[offset] - maxX, minX - this.hostileBoxes[offset + 3]));
+					double gapZ = Math.max(0, Math.max(this.hostileBoxes[offset + 2] - maxZ, minZ - this.hostileBoxes[offset + 5]));
+					closestGap = Math.min(closestGap, Math.max(gapX, gapZ));
+				}
+			}
+		}
+
+		return closestGap;
+	}
+
+	private int senseNearestAdult(int snail, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		int nearest = -1;
+		double nearestDistance = Double.MAX_VALUE;
+		double x = this.snailPositions[snail * 3], y = this.snailPositions[snail * 3 + 1], z = this.snailPositions[snail * 3 + 2];
+		int minCellX = MathHelper.floor(minX - ADULT_RANGE) >> 4, maxCellX = MathHelper.floor(maxX + ADULT_RANGE) >> 4;
+		int minCellZ = MathHelper.floor(minZ - ADULT_RANGE) >> 4, maxCellZ = MathHelper.floor(maxZ + ADULT_RANGE) >> 4;
+
+		for (int cellX = minCellX - 1; cellX <= maxCellX + 1; cellX++) {
+			for (int cellZ = minCellZ - 1; cellZ <= maxCellZ + 1; cellZ++) {
+				var adults = this.adultCells.get(ChunkPos.toLong(cellX, cellZ));
+				if (adults == null)
+					continue;
+
+				for (int i = 0; i < adults.size(); i++) {
+					int adult = adults.getInt(i);
+					int offset = adult * 6;
+
+					if (!(this.snailBoxes[offset] < maxX + ADULT_RANGE && this.snailBoxes[offset + 3] > minX - ADULT_RANGE
+							&& this.snailBoxes[offset + 1] < maxY + ADULT_VERTICAL_RANGE && this.snailBoxes[offset + 4] > minY - ADULT_VERTICAL_RANGE
+							&& this.snailBoxes[offset + 2] < maxZ + ADULT_RANGE && this.snailBoxes[offset + 5] > minZ - ADULT_RANGE))
+						continue;
+
+					double dx = this.snailPositions[adult * 3] - x;
+					double dy = this.snailPositions[adult * 3 + 1] - y;
+					double dz = this.snailPositions[adult * 3 + 2] - z;
+					double distance = dx * dx + dy * dy + dz * dz;
+
+					if (distance <= nearestDistance) {
+						nearestDistance = distance;
+						nearest = adult;
+					}
+				}
+			}
+		}
+
+		return nearest;
+	}
+
+	/**
+	 * Returns whether the given snail has sensing results for the current tick.
+	 *
+	 * @param snail the snail
+	 * @return {@code true} if the snail has sensing results, else {@code false}
+	 */
+	public boolean isFresh(SnailEntity snail) {
+		return snail.getSenseGeneration() == this.generation && snail.getSenseIndex() < this.snailCount;
+	}
+
+	/**
+	 * Returns whether a hostile mob is within the given horizontal distance of the given snail.
+	 * <p>
+	 * Matches a query of the hostile mobs in the snail bounding box expanded by the distance horizontally
+	 * and by {@value #HOSTILE_VERTICAL_RANGE} vertically.
+	 *
+	 * @param snail the snail, which must have fresh results
+	 * @param distance the horizontal distance, at most {@value #HOSTILE_RANGE}
+	 * @return {@code true} if a hostile mob is within the distance, else {@code false}
+	 */
+	public boolean isHostileWithin(SnailEntity snail, double distance) {
+		return this.hostileGaps[snail.getSenseIndex()] < distance;
+	}
+
+	/**
+	 * {@return the nearest adult snail of the given baby snail, or {@code null} if there's none}
+	 *
+	 * @param snail the snail, which must have fresh results
+	 */
+	public @Nullable SnailEntity getNearestAdult(SnailEntity snail) {
+		int adult = this.nearestAdults[snail.getSenseIndex()];
+		return adult == -1 ? null : this.snails[adult];
+	}
+}